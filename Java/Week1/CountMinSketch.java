@@ -0,0 +1,282 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * File: CountMinSketch.java
+ *
+ * HackerRank 3 Months Preparation Kit - Week 1: Sparse Arrays (approximate mode)
+ *
+ * Problem: Same as SparseArrays - count how many times each query string occurs
+ * in the input - but the input has too many distinct strings to keep a
+ * HashMap entry for every one of them.
+ *
+ * Solution approach: A Count-Min sketch is a depth x width table of counters.
+ * Every string increments one counter per row (chosen by a per-row hash), and a
+ * query returns the minimum of its counters. Collisions can only ADD to a
+ * counter, so the estimate never under-counts.
+ *
+ * Error bound (N = total number of strings added):
+ *   estimate(q) >= exact(q)                         always
+ *   estimate(q) <= exact(q) + (e / width) * N       with probability 1 - e^(-depth)
+ * Use forErrorBound(epsilon, delta) to pick width = ceil(e / epsilon) and
+ * depth = ceil(ln(1 / delta)).
+ *
+ * Memory: depth * width ints, fixed up front regardless of how many distinct
+ * strings are seen. Query strings listed in a "hot set" are additionally
+ * counted exactly in a small HashMap so the important ones are never inflated.
+ *
+ * Sketches with the same width, depth and seed are mergeable (counter-wise
+ * addition), so slices of a corpus can be sketched in parallel and combined.
+ *
+ * @see Problem URL: https://www.hackerrank.com/challenges/sparse-arrays/problem
+ * @author Drew Mayberry
+ * @since 2025-10-06
+ */
+public class CountMinSketch {
+
+    private static final long SECOND_SEED = 0xC2B2AE3D27D4EB4FL; // derives the second hash's seed
+
+    private final int width;
+    private final int depth;
+    private final long seed;
+    private final int[] table; // row-major: counter (row, col) lives at row * width + col
+    private long totalCount;   // N in the error bound
+
+    public static void main(String[] args) {
+        // Test Case 1: Same input as SparseArrays - tiny corpus, sketch is exact here
+        List<String> strings1 = new ArrayList<>(List.of("aba", "baba", "aba", "xzxb"));
+        List<String> queries1 = new ArrayList<>(List.of("aba", "xzxb", "ab"));
+        System.out.println("Test 1 (Exact):       " + SparseArrays.matchingStringsOptimized(strings1, queries1)); // [2, 1, 0]
+        System.out.println("Test 1 (Approximate): "
+                + matchingStringsApproximate(strings1, queries1, 64, 4, Set.of())); // Expected: [2, 1, 0]
+
+        // Test Case 2: Deliberately tiny sketch over many distinct strings to show over-counting
+        List<String> strings2 = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            strings2.add("key" + (i % 2_000));
+        }
+        List<String> queries2 = List.of("key7", "key1999", "missing");
+        System.out.println("Test 2 (Exact):       " + SparseArrays.matchingStringsOptimized(strings2, queries2)); // [5, 5, 0]
+        System.out.println("Test 2 (Approximate): "
+                + matchingStringsApproximate(strings2, queries2, 256, 4, Set.of())); // >= exact
+        System.out.println("Test 2 (Hot set):     "
+                + matchingStringsApproximate(strings2, queries2, 256, 4, Set.of("key7"))); // key7 exact
+
+        // Test Case 3: Two halves sketched on separate threads, then merged
+        CountMinSketch left = new CountMinSketch(256, 4, 42L);
+        CountMinSketch right = new CountMinSketch(256, 4, 42L);
+        Thread t = new Thread(() -> strings2.subList(0, 5_000).forEach(left::add));
+        t.start();
+        strings2.subList(5_000, strings2.size()).forEach(right::add);
+        try {
+            t.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        left.merge(right);
+        System.out.println("Test 3 (Merged):      key7 ~ " + left.estimate("key7")
+                + " (bound +" + left.errorBound() + ")");
+
+        // Test Case 4: "Aa" and "BB" share a String.hashCode but not a sketch column
+        CountMinSketch precise = forErrorBound(1e-3, 1e-3, 7L);
+        precise.add("Aa", 1000);
+        System.out.println("Test 4 (hashCode twins): BB ~ " + precise.estimate("BB")
+                + " (bound +" + precise.errorBound() + ")"); // 0 (bound +1)
+    }
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param width counters per row (controls the error: epsilon = e / width)
+     * @param depth number of independent rows (controls confidence: delta = e^-depth)
+     * @param seed  hash seed; only sketches with equal seeds can be merged
+     * @throws IllegalArgumentException if width or depth is not positive
+     */
+    public CountMinSketch(int width, int depth, long seed) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("width and depth must be positive: " + width + "x" + depth);
+        }
+        if ((long) width * depth > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Sketch too large: " + width + "x" + depth);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.seed = seed;
+        this.table = new int[width * depth];
+    }
+
+    /**
+     * Sizes a sketch from the desired error bound.
+     *
+     * @param epsilon over-count allowed, as a fraction of the total count N
+     * @param delta   probability that a single estimate exceeds the bound
+     * @param seed    hash seed
+     * @return sketch with width = ceil(e / epsilon), depth = ceil(ln(1 / delta))
+     */
+    public static CountMinSketch forErrorBound(double epsilon, double delta, long seed) {
+        if (!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException("epsilon and delta must be in (0, 1)");
+        }
+        int w = (int) Math.ceil(Math.E / epsilon);
+        int d = (int) Math.ceil(Math.log(1.0 / delta));
+        return new CountMinSketch(w, d, seed);
+    }
+
+    /**
+     * APPROXIMATE SOLUTION: Sketch the strings once, then answer queries from the sketch
+     *
+     * Algorithm: Two-phase approach, like matchingStringsOptimized
+     *   Phase 1: Add every string to the sketch; hot-set strings are also counted exactly
+     *   Phase 2: Answer hot-set queries exactly, all others from the sketch
+     *
+     * Time Complexity: O((n + q) * depth)
+     * Space Complexity: O(width * depth + h) where h = hotSet.size()
+     *
+     * @param strings Array of strings to search through
+     * @param queries Array of query strings to count
+     * @param width   sketch width
+     * @param depth   sketch depth
+     * @param hotSet  query strings that must be counted exactly (may be empty)
+     * @return List of (possibly over-counted) frequencies of each query in strings
+     */
+    public static List<Integer> matchingStringsApproximate(List<String> strings, List<String> queries,
+            int width, int depth, Set<String> hotSet) {
+        Objects.requireNonNull(hotSet, "hotSet must not be null");
+
+        // Phase 1: Build sketch plus exact counts for the hot set only
+        CountMinSketch sketch = new CountMinSketch(width, depth, 0x9E3779B97F4A7C15L);
+        Map<String, Integer> exact = new HashMap<>();
+        for (String hot : hotSet) {
+            exact.put(hot, 0);
+        }
+
+        for (String string : strings) {
+            sketch.add(string);
+            exact.computeIfPresent(string, (k, v) -> v + 1);
+        }
+
+        // Phase 2: Exact answer when we have one, sketch estimate otherwise
+        List<Integer> results = new ArrayList<>();
+        for (String query : queries) {
+            Integer count = exact.get(query);
+            results.add(count != null ? count : (int) Math.min(Integer.MAX_VALUE, sketch.estimate(query)));
+        }
+        return results;
+    }
+
+    /** Adds one occurrence of {@code s}. */
+    public void add(String s) {
+        add(s, 1);
+    }
+
+    /**
+     * Adds {@code count} occurrences of {@code s}.
+     *
+     * @throws IllegalArgumentException if count is negative (Count-Min only supports increments)
+     */
+    public void add(String s, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be non-negative: " + count);
+        }
+        long h1 = hash(s, seed);
+        long h2 = hash(s, seed ^ SECOND_SEED) | 1; // odd step so rows don't repeat the same column pattern
+        for (int row = 0; row < depth; row++) {
+            int idx = row * width + column(h1, h2, row);
+            // Saturate instead of wrapping around to a negative count
+            table[idx] = (int) Math.min(Integer.MAX_VALUE, (long) table[idx] + count);
+        }
+        totalCount += count;
+    }
+
+    /**
+     * Returns the estimated count of {@code s}: never below the true count and,
+     * with probability 1 - e^-depth, at most {@link #errorBound()} above it.
+     */
+    public long estimate(String s) {
+        long h1 = hash(s, seed);
+        long h2 = hash(s, seed ^ SECOND_SEED) | 1;
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table[row * width + column(h1, h2, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * Adds the counters of {@code other} into this sketch.
+     *
+     * @throws IllegalArgumentException if the sketches differ in width, depth or seed
+     */
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth || other.seed != seed) {
+            throw new IllegalArgumentException("Cannot merge sketches with different shape or seed");
+        }
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (int) Math.min(Integer.MAX_VALUE, (long) table[i] + other.table[i]);
+        }
+        totalCount += other.totalCount;
+    }
+
+    /** Maximum expected over-count per estimate: ceil(e / width * N). */
+    public long errorBound() {
+        return (long) Math.ceil(Math.E / width * totalCount);
+    }
+
+    /** Total number of occurrences added so far (N). */
+    public long totalCount() {
+        return totalCount;
+    }
+
+    /** Fixed memory footprint of the counter table in bytes. */
+    public long tableBytes() {
+        return (long) table.length * Integer.BYTES;
+    }
+
+    // Row r uses column (h1 + r * h2) mod width (Kirsch-Mitzenmacher double hashing)
+    private int column(long h1, long h2, int row) {
+        return (int) Math.floorMod(h1 + row * h2, (long) width);
+    }
+
+    /**
+     * Seeded 64-bit hash of the characters of {@code s} (MurmurHash3-style, 4 chars
+     * per step). Unlike String.hashCode, strings only collide by chance for a given
+     * seed, so "Aa" and "BB" (equal hashCode) land in different columns.
+     */
+    static long hash(String s, long seed) {
+        int len = s.length();
+        long h = seed;
+        int i = 0;
+        for (; i + 4 <= len; i += 4) {
+            long w = s.charAt(i) | (long) s.charAt(i + 1) << 16
+                    | (long) s.charAt(i + 2) << 32 | (long) s.charAt(i + 3) << 48;
+            h = Long.rotateLeft(h ^ mixWord(w), 27) * 5 + 0x52dce729L;
+        }
+        if (i < len) {
+            long w = 0;
+            for (int shift = 0; i < len; i++, shift += 16) {
+                w |= (long) s.charAt(i) << shift;
+            }
+            h ^= mixWord(w);
+        }
+        return mix(h ^ len);
+    }
+
+    private static long mixWord(long w) {
+        return Long.rotateLeft(w * 0x87c37b91114253d5L, 31) * 0x4cf5ad432745937fL;
+    }
+
+    // 64-bit finalizer (MurmurHash3 fmix64): every input bit affects every output bit
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,246 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * File: SparseArraysBytes.java
+ *
+ * HackerRank 3 Months Preparation Kit - Week 1: Sparse Arrays (byte-level path)
+ *
+ * Problem: Same as SparseArrays, but the strings arrive as a newline-separated
+ * UTF-8 file. Decoding every line into a String just to hash it costs one
+ * allocation per line, which dominates heap churn on large inputs.
+ *
+ * Solution approach: Hash each line's bytes directly out of a (memory-mapped)
+ * ByteBuffer and count them in an open-addressing table that stores only an
+ * (offset, length) pair per distinct key. Equality is a byte-range compare
+ * against the buffer itself, so no String is ever materialized for the input.
+ * Only the (few) query strings are encoded to bytes.
+ *
+ * Time Complexity: O(B + q) where B = bytes in the input
+ * Space Complexity: O(u) table slots where u = unique lines (16 bytes per slot)
+ *
+ * Notes:
+ * - UTF-8 is byte-comparable: two strings are equal iff their encodings are.
+ * - Lines end in '\n'; a trailing '\r' is stripped. A final line without '\n' is counted.
+ * - A single MappedByteBuffer is limited to 2 GB, so offsets fit in an int.
+ *
+ * @see Problem URL: https://www.hackerrank.com/challenges/sparse-arrays/problem
+ * @author Drew Mayberry
+ * @since 2025-10-07
+ */
+public class SparseArraysBytes {
+
+    // Open-addressing table: slot i is occupied iff counts[i] > 0
+    private final ByteBuffer data;
+    private long[] keys;   // (offset << 32) | length into data
+    private int[] hashes;  // cached hash, avoids most byte compares on probe collisions
+    private int[] counts;
+    private int size;
+
+    public static void main(String[] args) throws IOException {
+        // Test Case 1: Same input as SparseArrays, but fed as bytes
+        ByteBuffer buf = ByteBuffer.wrap("aba\nbaba\naba\nxzxb\n".getBytes(StandardCharsets.UTF_8));
+        List<String> queries1 = new ArrayList<>(List.of("aba", "xzxb", "ab"));
+        System.out.println("Test 1 (Bytes): " + matchingStrings(buf, queries1)); // Expected: [2, 1, 0]
+
+        // Test Case 2: Memory-mapped file with CRLF endings, non-ASCII text and no final newline
+        Path tmp = Files.createTempFile("sparse-arrays", ".txt");
+        try {
+            Files.writeString(tmp, "héllo\r\nworld\r\nhéllo\r\n\r\nhéllo");
+            List<String> queries2 = List.of("héllo", "world", "", "hello");
+            System.out.println("Test 2 (Mapped): " + matchingStrings(tmp, queries2)); // Expected: [3, 1, 1, 0]
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Counts query occurrences in a newline-separated UTF-8 file without
+     * creating a String per line.
+     *
+     * @param file    input file (at most 2 GB)
+     * @param queries query strings to count
+     * @return List of integers representing frequency of each query in the file
+     * @throws IOException if the file cannot be mapped
+     */
+    public static List<Integer> matchingStrings(Path file, List<String> queries) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map in one buffer: " + ch.size() + " bytes");
+            }
+            ByteBuffer mapped = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            return matchingStrings(mapped, queries);
+        }
+    }
+
+    /**
+     * Counts query occurrences in the newline-separated UTF-8 bytes between
+     * {@code data.position()} and {@code data.limit()}. The buffer's position
+     * is not modified.
+     *
+     * @param data    input bytes
+     * @param queries query strings to count
+     * @return List of integers representing frequency of each query in data
+     */
+    public static List<Integer> matchingStrings(ByteBuffer data, List<String> queries) {
+        SparseArraysBytes table = new SparseArraysBytes(data);
+        table.countLines(data.position(), data.limit());
+
+        List<Integer> results = new ArrayList<>();
+        for (String query : queries) {
+            // Queries are few, so encoding them is cheap compared to the input
+            results.add(table.count(query.getBytes(StandardCharsets.UTF_8)));
+        }
+        return results;
+    }
+
+    private SparseArraysBytes(ByteBuffer data) {
+        // Little-endian so 8-byte loads in hash() match the order bytes appear in the file
+        this.data = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.keys = new long[1024];
+        this.hashes = new int[1024];
+        this.counts = new int[1024];
+    }
+
+    // Phase 1: split [from, to) on '\n' and count each line in place
+    private void countLines(int from, int to) {
+        int start = from;
+        for (int i = from; i < to; i++) {
+            if (data.get(i) == '\n') {
+                addLine(start, i);
+                start = i + 1;
+            }
+        }
+        if (start < to) {
+            addLine(start, to); // last line without trailing newline
+        }
+    }
+
+    private void addLine(int start, int end) {
+        if (end > start && data.get(end - 1) == '\r') {
+            end--;
+        }
+        int len = end - start;
+        int h = hash(start, len);
+        int mask = counts.length - 1;
+        for (int slot = h & mask;; slot = (slot + 1) & mask) {
+            if (counts[slot] == 0) {
+                keys[slot] = ((long) start << 32) | len;
+                hashes[slot] = h;
+                counts[slot] = 1;
+                if (++size * 2 > counts.length) {
+                    grow(); // keep load factor <= 0.5 for short probe chains
+                }
+                return;
+            }
+            if (hashes[slot] == h && (int) keys[slot] == len && rangeEquals((int) (keys[slot] >>> 32), start, len)) {
+                counts[slot]++;
+                return;
+            }
+        }
+    }
+
+    // Phase 2: look up an encoded query, comparing against the buffer in place
+    private int count(byte[] query) {
+        int h = hash(query);
+        int mask = counts.length - 1;
+        for (int slot = h & mask; counts[slot] != 0; slot = (slot + 1) & mask) {
+            if (hashes[slot] == h && (int) keys[slot] == query.length
+                    && rangeEquals((int) (keys[slot] >>> 32), query)) {
+                return counts[slot];
+            }
+        }
+        return 0;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        int[] oldCounts = counts;
+        keys = new long[oldKeys.length * 2];
+        hashes = new int[oldKeys.length * 2];
+        counts = new int[oldKeys.length * 2];
+        int mask = counts.length - 1;
+        for (int i = 0; i < oldCounts.length; i++) {
+            if (oldCounts[i] == 0) {
+                continue;
+            }
+            int slot = oldHashes[i] & mask;
+            while (counts[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            hashes[slot] = oldHashes[i];
+            counts[slot] = oldCounts[i];
+        }
+    }
+
+    private boolean rangeEquals(int a, int b, int len) {
+        int i = 0;
+        for (; i + Long.BYTES <= len; i += Long.BYTES) {
+            if (data.getLong(a + i) != data.getLong(b + i)) {
+                return false;
+            }
+        }
+        for (; i < len; i++) {
+            if (data.get(a + i) != data.get(b + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean rangeEquals(int a, byte[] query) {
+        for (int i = 0; i < query.length; i++) {
+            if (data.get(a + i) != query[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Fast non-cryptographic hash: 8 bytes per multiply, then a final avalanche.
+    // hash(int, int) and hash(byte[]) must agree for equal byte sequences.
+    private int hash(int start, int len) {
+        long h = 0x9E3779B97F4A7C15L ^ len;
+        int i = 0;
+        for (; i + Long.BYTES <= len; i += Long.BYTES) {
+            h = (h ^ data.getLong(start + i)) * 0xff51afd7ed558ccdL;
+            h ^= h >>> 29;
+        }
+        long tail = 0;
+        for (int shift = 0; i < len; i++, shift += 8) {
+            tail |= (data.get(start + i) & 0xFFL) << shift;
+        }
+        return finish(h, tail);
+    }
+
+    private static int hash(byte[] bytes) {
+        ByteBuffer wrapped = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        long h = 0x9E3779B97F4A7C15L ^ bytes.length;
+        int i = 0;
+        for (; i + Long.BYTES <= bytes.length; i += Long.BYTES) {
+            h = (h ^ wrapped.getLong(i)) * 0xff51afd7ed558ccdL;
+            h ^= h >>> 29;
+        }
+        long tail = 0;
+        for (int shift = 0; i < bytes.length; i++, shift += 8) {
+            tail |= (bytes[i] & 0xFFL) << shift;
+        }
+        return finish(h, tail);
+    }
+
+    private static int finish(long h, long tail) {
+        h = (h ^ tail) * 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 32;
+        return (int) h;
+    }
+}
@@ -0,0 +1,166 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * File: StringDictionary.java
+ *
+ * HackerRank 3 Months Preparation Kit - Week 1: Sparse Arrays (dictionary encoding)
+ *
+ * Problem: Same as SparseArrays, but the input is extremely repetitive. A
+ * List<String> holding every duplicate plus a HashMap keyed on them keeps far
+ * more String objects alive than there are distinct values.
+ *
+ * Solution approach: Dictionary-encode the corpus once.
+ *   Phase 1: Map each distinct string to a dense int id (0, 1, 2, ...)
+ *   Phase 2: Store the corpus as an int[] of ids - 4 bytes per entry
+ *   Phase 3: Count with an int[] histogram indexed by id, no boxing or hashing
+ *   Phase 4: A query is one dictionary lookup plus one array read
+ *
+ * Time Complexity: O(n + q) - one hash per input string, one per query
+ * Space Complexity: O(n) ints + O(u) dictionary where u = unique strings
+ *
+ * Memory estimates assume a 64-bit JVM with compressed oops and compact
+ * (Latin-1) strings, and that every input line is its own String instance, as
+ * it is when strings are read from input.
+ *
+ * @see Problem URL: https://www.hackerrank.com/challenges/sparse-arrays/problem
+ * @author Drew Mayberry
+ * @since 2025-10-08
+ */
+public class StringDictionary {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> values = new ArrayList<>(); // id -> string
+
+    public static void main(String[] args) {
+        // Test Case 1: Same input as SparseArrays
+        List<String> strings1 = new ArrayList<>(List.of("aba", "baba", "aba", "xzxb"));
+        List<String> queries1 = new ArrayList<>(List.of("aba", "xzxb", "ab"));
+        System.out.println("Test 1 (Encoded): " + matchingStringsEncoded(strings1, queries1)); // Expected: [2, 1, 0]
+
+        // Test Case 2: Highly repetitive corpus - report memory saved
+        List<String> strings2 = new ArrayList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            strings2.add(new String("status-" + (i % 50))); // distinct instances, like lines read from input
+        }
+        StringDictionary dict = new StringDictionary();
+        int[] encoded = dict.encode(strings2);
+        System.out.println("Test 2 (Encoded): " + dict.matchingStrings(encoded, List.of("status-7", "status-49", "x")));
+        // Expected: [20000, 20000, 0]
+
+        long before = estimateListBytes(strings2);
+        long after = dict.estimateEncodedBytes(encoded);
+        System.out.printf("List<String>: ~%,d bytes | int[] + dictionary: ~%,d bytes | saved ~%.1f%%%n",
+                before, after, 100.0 * (before - after) / before);
+    }
+
+    /**
+     * ONE-SHOT SOLUTION: Encode the strings, then count queries via an id histogram
+     *
+     * @param strings Array of strings to search through
+     * @param queries Array of query strings to count
+     * @return List of integers representing frequency of each query in strings
+     */
+    public static List<Integer> matchingStringsEncoded(List<String> strings, List<String> queries) {
+        StringDictionary dict = new StringDictionary();
+        return dict.matchingStrings(dict.encode(strings), queries);
+    }
+
+    /**
+     * Returns the id of {@code s}, assigning the next dense id if it is new.
+     */
+    public int idOf(String s) {
+        Integer id = ids.get(s);
+        if (id == null) {
+            id = values.size();
+            ids.put(s, id);
+            values.add(s);
+        }
+        return id;
+    }
+
+    /**
+     * Encodes a corpus as an int[] of dictionary ids. Only the first occurrence of
+     * each distinct string is retained by the dictionary.
+     */
+    public int[] encode(List<String> strings) {
+        int[] encoded = new int[strings.size()];
+        int i = 0;
+        for (String s : strings) {
+            encoded[i++] = idOf(s);
+        }
+        return encoded;
+    }
+
+    /** Decodes an id back to its string. */
+    public String valueOf(int id) {
+        return values.get(id);
+    }
+
+    /** Number of distinct strings seen so far. */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Builds the frequency histogram of an encoded corpus: histogram[id] = count.
+     */
+    public int[] histogram(int[] encoded) {
+        int[] histogram = new int[values.size()];
+        for (int id : encoded) {
+            histogram[id]++;
+        }
+        return histogram;
+    }
+
+    /**
+     * Counts each query in an encoded corpus. Queries that were never encoded are
+     * not added to the dictionary and simply count 0.
+     */
+    public List<Integer> matchingStrings(int[] encoded, List<String> queries) {
+        int[] histogram = histogram(encoded);
+        List<Integer> results = new ArrayList<>();
+        for (String query : queries) {
+            Integer id = ids.get(query);
+            results.add(id == null ? 0 : histogram[id]);
+        }
+        return results;
+    }
+
+    /**
+     * Estimated heap bytes of a List<String> (ArrayList) holding every string as a
+     * separate instance.
+     */
+    public static long estimateListBytes(List<String> strings) {
+        long bytes = 24 + arrayBytes(strings.size(), 4); // ArrayList + Object[] of references
+        for (String s : strings) {
+            bytes += stringBytes(s);
+        }
+        return bytes;
+    }
+
+    /**
+     * Estimated heap bytes of the encoded form: the int[] plus this dictionary
+     * (one String per distinct value, its HashMap entry, boxed id and list slot).
+     */
+    public long estimateEncodedBytes(int[] encoded) {
+        long bytes = arrayBytes(encoded.length, 4);
+        int tableSize = Integer.highestOneBit(Math.max(1, (int) Math.ceil(values.size() / 0.75)) * 2 - 1);
+        bytes += 48 + arrayBytes(tableSize, 4); // HashMap + bucket table at default load factor
+        bytes += 24 + arrayBytes(values.size(), 4); // ArrayList + Object[]
+        for (String s : values) {
+            bytes += stringBytes(s) + 32 + 16; // String + HashMap.Node + Integer
+        }
+        return bytes;
+    }
+
+    private static long stringBytes(String s) {
+        return 24 + arrayBytes(s.length(), 1); // String header/fields + byte[] (Latin-1)
+    }
+
+    private static long arrayBytes(long length, int elementSize) {
+        return (16 + length * elementSize + 7) & ~7L; // header, elements, 8-byte alignment
+    }
+}
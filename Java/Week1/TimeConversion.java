@@ -1,3 +1,5 @@
+import java.nio.charset.StandardCharsets;
+
 /**
  * HackerRank 3 Months Preparation Kit - Week 1: Time Conversion
  * @see Problem URL: https://www.hackerrank.com/challenges/three-month-preparation-kit-time-conversion/problem
@@ -28,6 +30,16 @@ public class TimeConversion {
         System.out.println(timeConversion(s1));
         System.out.println(timeConversion(s2));
         System.out.println(timeConversion(s3));
+
+        System.out.println("\nAllocation-Free Time Conversion Function");
+        char[] chars = new char[8];
+        byte[] bytes = new byte[8];
+        for (String s : new String[] { s1, s2, s3 }) {
+            timeConversionInto(s, 0, chars, 0);
+            timeConversionInto(s.getBytes(StandardCharsets.US_ASCII), 0, bytes, 0);
+            System.out.println(new String(chars) + " / "
+                    + new String(bytes, StandardCharsets.US_ASCII));
+        }
     }
 
     /**
@@ -100,4 +112,66 @@ public class TimeConversion {
         String formattedHour = String.format("%02d", hourValue);
         return formattedHour + ":" + minuteValue + ":" + secondValue;
     }
-}
\ No newline at end of file
+
+    /**
+     * Converts the 10 characters of "hh:mm:ssAM"/"hh:mm:ssPM" starting at {@code from}
+     * into the 8 characters of "HH:MM:SS" written at {@code out[off..off+7]}.
+     * Reads fixed positions and does digit arithmetic only - nothing is allocated,
+     * so it can be called in a tight loop over millions of timestamps.
+     *
+     * @param s    source text containing the 12-hour timestamp
+     * @param from index of the first hour digit in {@code s}
+     * @param out  caller-supplied destination buffer
+     * @param off  index in {@code out} to write the first hour digit
+     * @throws IllegalArgumentException if the input is not a valid 12-hour timestamp
+     */
+    public static void timeConversionInto(CharSequence s, int from, char[] out, int off) {
+        int hour = toHour24(s.charAt(from), s.charAt(from + 1), s.charAt(from + 8), s.charAt(from + 9));
+
+        // Hour digits come from arithmetic; minutes/seconds and colons are copied as-is
+        out[off] = (char) ('0' + hour / 10);
+        out[off + 1] = (char) ('0' + hour % 10);
+        for (int i = 2; i < 8; i++) {
+            out[off + i] = s.charAt(from + i);
+        }
+    }
+
+    /**
+     * Byte-oriented twin of {@link #timeConversionInto(CharSequence, int, char[], int)}
+     * for ASCII input read straight from files or network buffers. {@code in} and
+     * {@code out} may be the same array with overlapping ranges as long as
+     * {@code off <= inOff} (in place, or compacting to the left): the hour is read
+     * first and minutes/seconds are copied forward. {@code off > inOff} with
+     * overlap is not supported.
+     *
+     * @param in    source bytes containing the 12-hour timestamp
+     * @param inOff index of the first hour digit in {@code in}
+     * @param out   caller-supplied destination buffer
+     * @param off   index in {@code out} to write the first hour digit
+     * @throws IllegalArgumentException if the input is not a valid 12-hour timestamp
+     */
+    public static void timeConversionInto(byte[] in, int inOff, byte[] out, int off) {
+        int hour = toHour24((char) in[inOff], (char) in[inOff + 1], (char) in[inOff + 8], (char) in[inOff + 9]);
+
+        // Forward copy, then the hour: safe for overlapping ranges when off <= inOff
+        for (int i = 2; i < 8; i++) {
+            out[off + i] = in[inOff + i];
+        }
+        out[off] = (byte) ('0' + hour / 10);
+        out[off + 1] = (byte) ('0' + hour % 10);
+    }
+
+    /**
+     * Shared conversion rule on raw characters:
+     * AM: 12 becomes 0 (midnight), PM: 12 stays 12 (noon), others add 12.
+     * Both cases collapse to (hour % 12) + (PM ? 12 : 0).
+     */
+    static int toHour24(char h1, char h2, char period, char m) {
+        int hour = (h1 - '0') * 10 + (h2 - '0');
+        if (h1 < '0' || h1 > '1' || h2 < '0' || h2 > '9' || hour < 1 || hour > 12
+                || (period != 'A' && period != 'P') || m != 'M') {
+            throw new IllegalArgumentException("Not a 12-hour timestamp: " + h1 + h2 + "..." + period + m);
+        }
+        return hour % 12 + (period == 'P' ? 12 : 0);
+    }
+}
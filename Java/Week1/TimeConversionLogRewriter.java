@@ -0,0 +1,250 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * File: TimeConversionLogRewriter.java
+ *
+ * HackerRank 3 Months Preparation Kit - Week 1: Time Conversion (log rewriter)
+ *
+ * Problem: Multi-gigabyte log files whose lines start with a 12-hour
+ * "hh:mm:ssAM"/"hh:mm:ssPM" timestamp must be rewritten with the 24-hour
+ * "HH:MM:SS" form. The String-based TimeConversion API would decode, split and
+ * re-encode every line.
+ *
+ * Solution approach:
+ *   1) Split the file into ~16 MB chunks, each extended to the next '\n' so no
+ *      line straddles two chunks.
+ *   2) Workers memory-map their chunk, bulk-copy it into a reusable buffer and
+ *      compact it in place: each leading 10-byte timestamp becomes 8 bytes via
+ *      TimeConversion.timeConversionInto and the rest of the line shifts left.
+ *   3) The main thread writes finished chunks through a FileChannel strictly in
+ *      submission order, then hands their buffers to the next chunks.
+ *
+ * Memory is bounded by bytes, not by core count: at most maxInFlightBytes /
+ * chunkBytes buffers (default 256 MB in total) ever exist, however many
+ * threads run.
+ *
+ * Lines that do not start with a valid timestamp are copied unchanged.
+ *
+ * Complexity:
+ * - Time: O(B) where B = file size, split across worker threads.
+ * - Space: O(maxInFlightBytes), independent of file size and core count.
+ *
+ * @see Problem URL: https://www.hackerrank.com/challenges/three-month-preparation-kit-time-conversion/problem
+ * @author Drew Mayberry
+ * @since 2025-10-09
+ */
+public class TimeConversionLogRewriter {
+
+    private static final int DEFAULT_CHUNK_BYTES = 16 << 20;
+    private static final long DEFAULT_MAX_IN_FLIGHT_BYTES = 256L << 20;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path in = Files.createTempFile("log-12h", ".log");
+        Path out = Files.createTempFile("log-24h", ".log");
+        try {
+            Files.writeString(in, "12:01:00PM GET /index\n"
+                    + "07:05:45PM POST /login\r\n"
+                    + "no timestamp on this line\n"
+                    + "12:21:45AM GET /health\n"
+                    + "11:59:59AM tail line without newline");
+
+            // Tiny chunks force several partitions even on this small sample
+            long written = rewrite(in, out, 32, 4);
+            System.out.println("Rewrote " + Files.size(in) + " -> " + written + " bytes");
+            System.out.print(Files.readString(out));
+            System.out.println();
+            // Expected:
+            // 12:01:00 GET /index
+            // 19:05:45 POST /login
+            // no timestamp on this line
+            // 00:21:45 GET /health
+            // 11:59:59 tail line without newline
+        } finally {
+            Files.deleteIfExists(in);
+            Files.deleteIfExists(out);
+        }
+    }
+
+    /**
+     * Rewrites {@code in} to {@code out} with default chunking and one worker per core.
+     *
+     * @return number of bytes written
+     */
+    public static long rewrite(Path in, Path out) throws IOException, InterruptedException {
+        return rewrite(in, out, DEFAULT_CHUNK_BYTES, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Rewrites {@code in} to {@code out} with the default in-flight memory budget.
+     *
+     * @return number of bytes written
+     */
+    public static long rewrite(Path in, Path out, int chunkBytes, int threads)
+            throws IOException, InterruptedException {
+        return rewrite(in, out, chunkBytes, threads, DEFAULT_MAX_IN_FLIGHT_BYTES);
+    }
+
+    /**
+     * Rewrites every leading 12-hour timestamp in {@code in} to 24-hour form and
+     * writes the result to {@code out}, preserving line order.
+     *
+     * @param in               source log file
+     * @param out              destination file (created or truncated)
+     * @param chunkBytes       target partition size; actual chunks end on a line boundary
+     * @param threads          maximum number of worker threads
+     * @param maxInFlightBytes budget for chunk buffers; at least one chunk is always allowed
+     * @return number of bytes written
+     * @throws IOException if reading, mapping or writing fails, or if a single
+     *                     line would stretch a chunk past Integer.MAX_VALUE bytes
+     */
+    public static long rewrite(Path in, Path out, int chunkBytes, int threads, long maxInFlightBytes)
+            throws IOException, InterruptedException {
+        if (chunkBytes <= 0 || threads <= 0 || maxInFlightBytes <= 0) {
+            throw new IllegalArgumentException("chunkBytes, threads and maxInFlightBytes must be positive");
+        }
+        // Window in chunks: what the byte budget allows, and no more than the workers can use
+        int window = (int) Math.max(1, Math.min(2L * threads, maxInFlightBytes / chunkBytes));
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, window));
+        try (FileChannel src = FileChannel.open(in, StandardOpenOption.READ);
+                FileChannel dst = FileChannel.open(out, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long size = src.size();
+            long written = 0;
+            Deque<Future<ByteBuffer>> inFlight = new ArrayDeque<>();
+            Deque<ByteBuffer> free = new ArrayDeque<>(); // buffers already written out
+
+            for (long start = 0; start < size;) {
+                // Bound memory: drain the oldest chunk (and reuse its buffer) once the window is full
+                if (inFlight.size() >= window) {
+                    written += drain(dst, inFlight, free);
+                }
+                long cut = Math.min(size, start + chunkBytes);
+                long end = lineBoundary(src, cut, size, chunkBytes);
+                if (end - start > Integer.MAX_VALUE) {
+                    // A chunk is mapped and buffered whole, so it must fit an int length
+                    throw new IOException("Line containing offset " + (cut - 1) + " is too long: chunk ["
+                            + start + ", " + end + ") exceeds " + Integer.MAX_VALUE + " bytes");
+                }
+                final long from = start;
+                final int length = (int) (end - start);
+                final ByteBuffer reuse = free.poll(); // null until the first chunk is written
+                inFlight.add(pool.submit(() -> rewriteChunk(src, from, length, reuse)));
+                start = end;
+            }
+            while (!inFlight.isEmpty()) {
+                written += drain(dst, inFlight, free);
+            }
+            return written;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Writes the oldest finished chunk and returns its buffer to the free list
+    private static int drain(FileChannel dst, Deque<Future<ByteBuffer>> inFlight, Deque<ByteBuffer> free)
+            throws IOException, InterruptedException {
+        ByteBuffer done = await(inFlight.poll());
+        int n = writeFully(dst, done);
+        free.add(done);
+        return n;
+    }
+
+    // Worker: map [from, from + length), bulk-copy into the reusable buffer, compact timestamps in place
+    private static ByteBuffer rewriteChunk(FileChannel src, long from, int length, ByteBuffer reuse)
+            throws IOException {
+        MappedByteBuffer mapped = src.map(FileChannel.MapMode.READ_ONLY, from, length);
+        // A chunk can exceed chunkBytes by one long line; only then is a larger buffer allocated
+        ByteBuffer out = reuse != null && reuse.capacity() >= length ? reuse : ByteBuffer.allocate(length);
+        byte[] buf = out.array();
+        mapped.get(0, buf, 0, length);
+
+        int r = 0, w = 0;
+        while (r < length) {
+            // r is at the start of a line
+            if (isTimestamp(buf, r, length)) {
+                // w <= r: timeConversionInto is documented safe for off <= inOff
+                TimeConversion.timeConversionInto(buf, r, buf, w);
+                r += 10;
+                w += 8;
+            }
+            int nl = r;
+            while (nl < length && buf[nl] != '\n') {
+                nl++;
+            }
+            int lineEnd = Math.min(length, nl + 1); // include the '\n'
+            System.arraycopy(buf, r, buf, w, lineEnd - r);
+            w += lineEnd - r;
+            r = lineEnd;
+        }
+        out.clear().limit(w);
+        return out;
+    }
+
+    // Non-throwing shape check for "hh:mm:ssAM" / "hh:mm:ssPM" at position i
+    static boolean isTimestamp(byte[] b, int i, int limit) {
+        if (i + 10 > limit || b[i + 2] != ':' || b[i + 5] != ':' || b[i + 9] != 'M'
+                || (b[i + 8] != 'A' && b[i + 8] != 'P')) {
+            return false;
+        }
+        if (!isDigit(b[i]) || !isDigit(b[i + 1]) || !isDigit(b[i + 3]) || !isDigit(b[i + 4])
+                || !isDigit(b[i + 6]) || !isDigit(b[i + 7])) {
+            return false;
+        }
+        int hour = (b[i] - '0') * 10 + (b[i + 1] - '0');
+        return hour >= 1 && hour <= 12;
+    }
+
+    private static boolean isDigit(byte c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // First offset after the '\n' at or following pos (or size if there is none)
+    private static long lineBoundary(FileChannel src, long pos, long size, int maxLine) throws IOException {
+        if (pos >= size) {
+            return size;
+        }
+        ByteBuffer probe = ByteBuffer.allocate(Math.min(maxLine, 8192));
+        for (long p = pos - 1; p < size;) {
+            probe.clear();
+            int n = src.read(probe, p);
+            if (n <= 0) {
+                break;
+            }
+            for (int i = 0; i < n; i++) {
+                if (probe.get(i) == '\n') {
+                    return p + i + 1;
+                }
+            }
+            p += n;
+        }
+        return size;
+    }
+
+    private static ByteBuffer await(Future<ByteBuffer> f) throws IOException, InterruptedException {
+        try {
+            return f.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Chunk rewrite failed", e.getCause());
+        }
+    }
+
+    private static int writeFully(FileChannel dst, ByteBuffer buf) throws IOException {
+        int n = buf.remaining();
+        while (buf.hasRemaining()) {
+            dst.write(buf);
+        }
+        return n;
+    }
+}
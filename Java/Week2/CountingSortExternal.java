@@ -0,0 +1,195 @@
+/**
+ * Counting Sort (External Memory)
+ *
+ * Problem:
+ * Sort a binary file of 32-bit ints that is larger than the heap, where the
+ * values are known to lie in a bounded range [min, max].
+ *
+ * Approach:
+ * 1) Stream the input through a FileChannel into a large direct buffer and
+ *    build a long[] histogram over [min, max]. Only the histogram lives on the
+ *    heap, so memory is O(range) regardless of file size.
+ * 2) Walk the histogram in order and write each value's run sequentially. A run
+ *    is produced by bulk puts from a template array that is filled once per
+ *    run, even when the run spans many output buffers.
+ *
+ * If [min, max] is not known, sort(in, out) spends one extra streaming pass to
+ * find it.
+ *
+ * Key points:
+ * - Time: O(N + k) I/O-bound passes, N = ints in the file, k = range.
+ * - Space: O(k) histogram + two fixed-size buffers.
+ * - Both files hold little-endian 4-byte ints.
+ *
+ * File: CountingSortExternal.java
+ * HackerRank: 3 Months Preparation Kit — Counting Sort 1 (out-of-core)
+ * @see Problem URL: https://www.hackerrank.com/challenges/three-month-preparation-kit-countingsort1/problem
+ *
+ * @author Drew Mayberry
+ * @since 2025-10-12
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+public class CountingSortExternal {
+
+    static final int BUFFER_BYTES = 8 << 20;
+
+    /** Largest histogram this mode will allocate (128 MB of long counters). */
+    static final long MAX_RANGE = 1L << 24;
+
+    public static void main(String[] args) throws IOException {
+        Path in = Files.createTempFile("values", ".bin");
+        Path out = Files.createTempFile("sorted", ".bin");
+        try {
+            // 3M ints in [0, 99] - the classic CountingSort range - written as raw little-endian
+            int n = 3_000_000;
+            int[] values = new int[n];
+            Random rnd = new Random(3);
+            ByteBuffer raw = ByteBuffer.allocate(n * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < n; i++) {
+                values[i] = rnd.nextInt(100);
+                raw.putInt(values[i]);
+            }
+            Files.write(in, raw.array());
+
+            long[] freq = sort(in, out, 0, 99);
+            System.out.println("freq[0..9] = " + Arrays.toString(Arrays.copyOf(freq, 10)));
+
+            // Verify against an in-memory sort
+            Arrays.sort(values);
+            IntBuffer sorted = ByteBuffer.wrap(Files.readAllBytes(out)).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            int[] actual = new int[sorted.remaining()];
+            sorted.get(actual);
+            System.out.println("Matches Arrays.sort: " + Arrays.equals(values, actual)); // true
+        } finally {
+            Files.deleteIfExists(in);
+            Files.deleteIfExists(out);
+        }
+    }
+
+    /**
+     * Sorts a file whose value range is unknown by first scanning it for min/max.
+     *
+     * @return the histogram; index i counts value (fileMin + i)
+     */
+    public static long[] sort(Path in, Path out) throws IOException {
+        int[] minMax = { Integer.MAX_VALUE, Integer.MIN_VALUE };
+        try (FileChannel ch = FileChannel.open(in, StandardOpenOption.READ)) {
+            forEachInt(ch, ByteOrder.LITTLE_ENDIAN, v -> {
+                minMax[0] = Math.min(minMax[0], v);
+                minMax[1] = Math.max(minMax[1], v);
+            });
+        }
+        if (minMax[0] > minMax[1]) { // empty file
+            minMax[0] = minMax[1] = 0;
+        }
+        return sort(in, out, minMax[0], minMax[1]);
+    }
+
+    /**
+     * Sorts a binary little-endian int file whose values all lie in [min, max].
+     *
+     * @param in  input file of 4-byte ints
+     * @param out output file (created or truncated)
+     * @param min smallest allowed value
+     * @param max largest allowed value
+     * @return the histogram; index i counts value (min + i)
+     * @throws IllegalArgumentException if the range is invalid or a value is out of range
+     * @throws IOException              on I/O failure or if the file size is not a multiple of 4
+     */
+    public static long[] sort(Path in, Path out, int min, int max) throws IOException {
+        long range = (long) max - min + 1;
+        if (range <= 0 || range > MAX_RANGE) {
+            throw new IllegalArgumentException("Unsupported range [" + min + ", " + max + "]");
+        }
+        long[] counts = new long[(int) range];
+
+        // Pass 1: histogram
+        try (FileChannel ch = FileChannel.open(in, StandardOpenOption.READ)) {
+            forEachInt(ch, ByteOrder.LITTLE_ENDIAN, v -> {
+                if (v < min || v > max) {
+                    throw new IllegalArgumentException("Value out of range: " + v);
+                }
+                counts[v - min]++;
+            });
+        }
+
+        // Pass 2: sequential runs
+        try (FileChannel ch = FileChannel.open(out, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeRuns(ch, counts, min, ByteOrder.LITTLE_ENDIAN);
+        }
+        return counts;
+    }
+
+    private interface IntSink {
+        void accept(int v);
+    }
+
+    // Streams every int in ch through a reused direct buffer
+    private static void forEachInt(FileChannel ch, ByteOrder order, IntSink sink) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_BYTES).order(order);
+        while (true) {
+            int n = ch.read(buf);
+            buf.flip();
+            IntBuffer ints = buf.asIntBuffer();
+            int count = ints.remaining();
+            for (int i = 0; i < count; i++) {
+                sink.accept(ints.get(i));
+            }
+            buf.position(buf.position() + count * Integer.BYTES);
+            buf.compact(); // keep a partial trailing int for the next read
+            if (n < 0) {
+                if (buf.position() != 0) {
+                    throw new IOException("File size is not a multiple of " + Integer.BYTES);
+                }
+                return;
+            }
+        }
+    }
+
+    private static void writeRuns(FileChannel ch, long[] counts, int min, ByteOrder order) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_BYTES).order(order);
+        IntBuffer ints = buf.asIntBuffer();
+        int[] template = new int[ints.capacity()];
+
+        for (int i = 0; i < counts.length; i++) {
+            long remaining = counts[i];
+            if (remaining == 0) {
+                continue;
+            }
+            int value = min + i;
+            int filled = (int) Math.min(remaining, template.length);
+            Arrays.fill(template, 0, filled, value); // one fill per run
+
+            while (remaining > 0) {
+                int k = (int) Math.min(remaining, ints.remaining());
+                ints.put(template, 0, k);
+                remaining -= k;
+                if (!ints.hasRemaining()) {
+                    flush(ch, buf, ints.position());
+                    ints.clear();
+                }
+            }
+        }
+        flush(ch, buf, ints.position());
+    }
+
+    private static void flush(FileChannel ch, ByteBuffer buf, int intCount) throws IOException {
+        buf.clear().limit(intCount * Integer.BYTES);
+        while (buf.hasRemaining()) {
+            ch.write(buf);
+        }
+        buf.clear();
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Counting Sort (Parallel)
+ *
+ * Problem:
+ * Counting-sort very large int[] inputs (10^8 elements) with a bounded value
+ * range using every core.
+ *
+ * Approach (no locks, no atomics):
+ * 1) Split the input into T contiguous slices, one fork-join task each.
+ * 2) Each task finds its slice's min/max; the results are combined.
+ * 3) Each task builds its own histogram hist[t][b] over its slice.
+ * 4) A sequential prefix sum walks the T x range matrix bucket-major,
+ *    task-minor, turning hist[t][b] into the first output index for bucket b
+ *    coming from task t. Offsets of different tasks never overlap.
+ * 5) Each task scatters its slice into the output at its own offsets. The sort
+ *    is stable: equal values keep their relative input order.
+ *
+ * Key points:
+ * - Time: O(n / P + T * k) where P = cores, k = range.
+ * - Space: O(n) output + O(T * k) histograms, so k must stay modest; wider
+ *   ranges fall back to Arrays.parallelSort.
+ * - "java CountingSortParallel --bench [n]" reports speedup per core count.
+ *
+ * File: CountingSortParallel.java
+ * HackerRank: 3 Months Preparation Kit — Counting Sort 1 (parallel)
+ * @see Problem URL: https://www.hackerrank.com/challenges/three-month-preparation-kit-countingsort1/problem
+ *
+ * @author Drew Mayberry
+ * @since 2025-10-11
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+public class CountingSortParallel {
+
+    /** Histograms above this many counters per task fall back to Arrays.parallelSort. */
+    static final int MAX_RANGE = 1 << 20;
+
+    /** Slices smaller than this are not worth a task. */
+    static final int MIN_SLICE = 1 << 16;
+
+    public static void main(String[] args) {
+        int[] arr = { 63, 25, 73, 1, 98, 73, 56, 84, 86, 57, 16, 83, 8, 25, 81, 56, 9, 53, 98, 67 };
+        int[] sorted = sort(arr, ForkJoinPool.commonPool());
+        System.out.println(Arrays.toString(sorted));
+
+        // Cross-check against the JDK on a large random input
+        int[] big = randomInput(3_000_000, 1000, 7);
+        int[] expected = big.clone();
+        Arrays.sort(expected);
+        System.out.println("Matches Arrays.sort: " + Arrays.equals(sort(big, ForkJoinPool.commonPool()), expected));
+
+        if (args.length > 0 && args[0].equals("--bench")) {
+            benchmark(args.length > 1 ? Integer.parseInt(args[1]) : 20_000_000);
+        }
+    }
+
+    /**
+     * Returns a sorted copy of {@code a} using the given pool's parallelism.
+     *
+     * @param a    input values (not modified)
+     * @param pool pool whose parallelism decides how many slices are used
+     * @return new sorted array
+     */
+    public static int[] sort(int[] a, ForkJoinPool pool) {
+        int n = a.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        int tasks = Math.max(1, Math.min(pool.getParallelism(), n / MIN_SLICE));
+        int[] bounds = new int[tasks + 1];
+        for (int t = 0; t <= tasks; t++) {
+            bounds[t] = (int) ((long) n * t / tasks);
+        }
+
+        // Phase 1: per-task min/max, then combine
+        int[] mins = new int[tasks];
+        int[] maxs = new int[tasks];
+        forEachTask(pool, tasks, t -> {
+            int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+            for (int i = bounds[t]; i < bounds[t + 1]; i++) {
+                min = Math.min(min, a[i]);
+                max = Math.max(max, a[i]);
+            }
+            mins[t] = min;
+            maxs[t] = max;
+        });
+        int min = Arrays.stream(mins).min().orElse(0);
+        int max = Arrays.stream(maxs).max().orElse(0);
+        long range = (long) max - min + 1;
+        if (range > MAX_RANGE) {
+            int[] copy = a.clone();
+            Arrays.parallelSort(copy);
+            return copy;
+        }
+        int k = (int) range;
+
+        // Phase 2: private histogram per task - no sharing, no synchronization
+        int[][] hist = new int[tasks][k];
+        forEachTask(pool, tasks, t -> {
+            int[] h = hist[t];
+            for (int i = bounds[t]; i < bounds[t + 1]; i++) {
+                h[a[i] - min]++;
+            }
+        });
+
+        // Phase 3: exclusive prefix sum, bucket-major then task order
+        int offset = 0;
+        for (int b = 0; b < k; b++) {
+            for (int t = 0; t < tasks; t++) {
+                int c = hist[t][b];
+                hist[t][b] = offset;
+                offset += c;
+            }
+        }
+
+        // Phase 4: every task writes only to its own reserved output ranges
+        int[] out = new int[n];
+        forEachTask(pool, tasks, t -> {
+            int[] next = hist[t];
+            for (int i = bounds[t]; i < bounds[t + 1]; i++) {
+                int v = a[i];
+                out[next[v - min]++] = v;
+            }
+        });
+        return out;
+    }
+
+    // Runs body(0..tasks-1) in the pool and waits for all of them
+    private static void forEachTask(ForkJoinPool pool, int tasks, IntConsumer body) {
+        List<ForkJoinTask<?>> list = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            final int id = t;
+            list.add(ForkJoinTask.adapt(() -> body.accept(id)));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(list)));
+    }
+
+    private static int[] randomInput(int n, int range, long seed) {
+        Random rnd = new Random(seed);
+        int[] a = new int[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = rnd.nextInt(range);
+        }
+        return a;
+    }
+
+    /**
+     * Prints time and speedup (relative to one core) for 1, 2, 4, ... cores, next to
+     * Arrays.parallelSort, which always uses the common pool.
+     */
+    static void benchmark(int n) {
+        int[] data = randomInput(n, 100_000, 1);
+        double jdk = best(() -> Arrays.parallelSort(data.clone()));
+        System.out.printf("%nn=%,d range=100000 Arrays.parallelSort(common pool): %.1f ms%n", n, jdk);
+        System.out.printf("%-8s %10s %10s %14s%n", "cores", "ms", "speedup", "vs parallelSort");
+
+        double single = 0;
+        int maxCores = Runtime.getRuntime().availableProcessors();
+        for (int cores = 1; cores <= maxCores; cores = cores < maxCores ? Math.min(maxCores, cores * 2) : cores + 1) {
+            ForkJoinPool pool = new ForkJoinPool(cores);
+            try {
+                double ms = best(() -> sort(data, pool));
+                if (cores == 1) {
+                    single = ms;
+                }
+                System.out.printf("%-8d %10.1f %9.2fx %13.2fx%n", cores, ms, single / ms, jdk / ms);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static double best(Runnable r) {
+        double best = Double.MAX_VALUE;
+        for (int rep = 0; rep < 5; rep++) { // first reps double as JIT warm-up
+            long t0 = System.nanoTime();
+            r.run();
+            best = Math.min(best, (System.nanoTime() - t0) / 1e6);
+        }
+        return best;
+    }
+}
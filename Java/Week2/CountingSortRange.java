@@ -0,0 +1,210 @@
+/**
+ * Counting Sort (General Range)
+ *
+ * Problem:
+ * Sort an arbitrary int[] in place. CountingSort.countingSortOptimized only
+ * handles values in [0, 99]; here the range is discovered from the data.
+ *
+ * Approach:
+ * 1) One pass finds min and max.
+ * 2) If the range (max - min + 1) is small relative to n, counting sort:
+ *    histogram over [min, max], then rewrite the array run by run.
+ * 3) Otherwise LSD radix sort with 8-bit digits (4 passes, one scratch array),
+ *    skipping any pass where every key has the same digit. The sign bit is
+ *    flipped so negative numbers order before positive ones.
+ *
+ * The switch point (COUNTING_RANGE_FACTOR) comes from the benchmark in main:
+ * run "java CountingSortRange --bench" to re-tune it for a given machine.
+ *
+ * Key points:
+ * - Counting: Time O(n + k), Space O(k) where k = range.
+ * - Radix:    Time O(4 * (n + 256)), Space O(n).
+ * - frequencies() exposes the counting-sort histogram directly.
+ *
+ * File: CountingSortRange.java
+ * HackerRank: 3 Months Preparation Kit — Counting Sort 1 (generalized)
+ * @see Problem URL: https://www.hackerrank.com/challenges/three-month-preparation-kit-countingsort1/problem
+ *
+ * @author Drew Mayberry
+ * @since 2025-10-10
+ */
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+
+public class CountingSortRange {
+
+    /**
+     * Use counting sort while range <= n * COUNTING_RANGE_FACTOR. Past that point the
+     * histogram no longer fits in cache and radix sort's fixed 4 passes win.
+     * Measured at n = 2M: counting and radix break even around range ~ n.
+     */
+    static final int COUNTING_RANGE_FACTOR = 1;
+
+    /** Never allocate a histogram larger than this many counters (64 MB). */
+    static final int MAX_COUNTING_RANGE = 1 << 24;
+
+    /**
+     * Frequency table over [min, min + counts.length - 1]: counts[i] is the number
+     * of occurrences of value min + i.
+     */
+    public record Frequencies(int min, int[] counts) {
+    }
+
+    public static void main(String[] args) {
+        // Small range: counting sort path (includes negatives)
+        int[] small = { 5, -2, 3, 5, 0, -2, 9, 3, 3 };
+        sort(small);
+        System.out.println(Arrays.toString(small)); // [-2, -2, 0, 3, 3, 3, 5, 5, 9]
+
+        // Wide range: radix sort path
+        int[] wide = { Integer.MAX_VALUE, -7, 1_000_000_000, Integer.MIN_VALUE, 42, -1_000_000_000 };
+        sort(wide);
+        System.out.println(Arrays.toString(wide));
+
+        // Frequency table, same shape as countingSortOptimized when values are 0..99
+        Frequencies f = frequencies(new int[] { 1, 1, 3, 2, 1 });
+        System.out.println("min=" + f.min() + " counts=" + Arrays.toString(f.counts())); // min=1 counts=[3, 1, 1]
+
+        if (args.length > 0 && args[0].equals("--bench")) {
+            benchmark();
+        }
+    }
+
+    /**
+     * Sorts {@code a} in ascending order, choosing counting or radix sort from the
+     * observed range.
+     *
+     * @param a array to sort in place (must be non-null)
+     */
+    public static void sort(int[] a) {
+        if (a.length < 2) {
+            return;
+        }
+        int min = a[0], max = a[0];
+        for (int v : a) {
+            if (v < min) {
+                min = v;
+            } else if (v > max) {
+                max = v;
+            }
+        }
+        long range = (long) max - min + 1;
+        if (range <= MAX_COUNTING_RANGE && range <= (long) a.length * COUNTING_RANGE_FACTOR) {
+            countingSort(a, min, (int) range);
+        } else {
+            radixSort(a);
+        }
+    }
+
+    /**
+     * Builds the frequency table of {@code a} over its own [min, max] range.
+     *
+     * @throws IllegalArgumentException if the range exceeds MAX_COUNTING_RANGE
+     */
+    public static Frequencies frequencies(int[] a) {
+        if (a.length == 0) {
+            return new Frequencies(0, new int[0]);
+        }
+        int min = a[0], max = a[0];
+        for (int v : a) {
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        long range = (long) max - min + 1;
+        if (range > MAX_COUNTING_RANGE) {
+            throw new IllegalArgumentException("Range too wide for a frequency table: " + range);
+        }
+        return new Frequencies(min, histogram(a, min, (int) range));
+    }
+
+    static int[] histogram(int[] a, int min, int range) {
+        int[] counts = new int[range];
+        for (int v : a) {
+            counts[v - min]++; // v - min may overflow int but wraps back into [0, range)
+        }
+        return counts;
+    }
+
+    static void countingSort(int[] a, int min, int range) {
+        int[] counts = histogram(a, min, range);
+        int pos = 0;
+        for (int i = 0; i < range; i++) {
+            int c = counts[i];
+            if (c > 0) {
+                Arrays.fill(a, pos, pos + c, min + i); // one bulk fill per run
+                pos += c;
+            }
+        }
+    }
+
+    static void radixSort(int[] a) {
+        int n = a.length;
+        int[] src = a, dst = new int[n];
+        int[] counts = new int[256];
+
+        for (int shift = 0; shift < 32; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int v : src) {
+                counts[digit(v, shift)]++;
+            }
+            // All keys share this digit: the pass would be a no-op copy
+            if (counts[digit(src[0], shift)] == n) {
+                continue;
+            }
+            int sum = 0;
+            for (int d = 0; d < 256; d++) {
+                int c = counts[d];
+                counts[d] = sum; // exclusive prefix sum = first write slot for digit d
+                sum += c;
+            }
+            for (int v : src) {
+                dst[counts[digit(v, shift)]++] = v;
+            }
+            int[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != a) {
+            System.arraycopy(src, 0, a, 0, n);
+        }
+    }
+
+    // Flip the sign bit so signed order matches unsigned digit order
+    private static int digit(int v, int shift) {
+        return ((v ^ Integer.MIN_VALUE) >>> shift) & 0xFF;
+    }
+
+    /**
+     * Times sort() against Arrays.sort over a sweep of range/n ratios, forcing each
+     * strategy, so COUNTING_RANGE_FACTOR can be read off where the lines cross.
+     */
+    static void benchmark() {
+        int n = 2_000_000;
+        Random rnd = new Random(1);
+        System.out.printf("%n%-12s %12s %12s %12s%n", "range/n", "counting ms", "radix ms", "Arrays ms");
+        for (double ratio : new double[] { 0.01, 0.1, 0.5, 1, 2, 4, 8 }) {
+            int range = (int) Math.max(1, n * ratio);
+            int[] data = new int[n];
+            for (int i = 0; i < n; i++) {
+                data[i] = rnd.nextInt(range) - range / 2;
+            }
+            double counting = time(data, a -> countingSort(a, -(range / 2), range));
+            double radix = time(data, CountingSortRange::radixSort);
+            double jdk = time(data, Arrays::sort);
+            System.out.printf("%-12s %12.1f %12.1f %12.1f%n", ratio, counting, radix, jdk);
+        }
+    }
+
+    private static double time(int[] data, Consumer<int[]> sorter) {
+        double best = Double.MAX_VALUE;
+        for (int rep = 0; rep < 5; rep++) { // first reps double as JIT warm-up
+            int[] copy = data.clone();
+            long t0 = System.nanoTime();
+            sorter.accept(copy);
+            best = Math.min(best, (System.nanoTime() - t0) / 1e6);
+        }
+        return best;
+    }
+}
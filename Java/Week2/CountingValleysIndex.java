@@ -0,0 +1,189 @@
+import java.util.Arrays;
+
+/**
+ * CountingValleysIndex.java
+ *
+ * Problem:
+ * Over one hike, answer many queries of the form
+ * - "how many valleys end within steps [l, r]?"
+ * - "what is the lowest altitude reached within steps [l, r]?"
+ * while new steps keep being appended. Rescanning with
+ * countingValleysOptimized costs O(N) per query.
+ *
+ * Description:
+ * Leaf i of a segment tree describes step i (0-based):
+ * - alt: absolute altitude right after the step (the prefix altitude).
+ * - valley: 1 if the step is a 'U' that returns to sea level, else 0.
+ * Internal nodes store min(alt) and sum(valley) of their children. Because
+ * altitudes are absolute, appending a step never changes earlier leaves, so
+ * an append is a single O(log N) leaf update; capacity doubles when full.
+ *
+ * A valley is attributed to the step that climbs out of it, matching
+ * CountingValleys: valleys(0, size() - 1) equals countingValleysOptimized.
+ *
+ * Complexity:
+ * - Build: O(N). Query: O(log N). Append: O(log N) amortized.
+ * - Space: O(N) - two int arrays of 2 * capacity.
+ *
+ * HackerRank: 3 Months Preparation Kit — Counting Valleys
+ *
+ * @see https://www.hackerrank.com/challenges/three-month-preparation-kit-counting-valleys
+ *
+ *      Author: Drew Mayberry
+ * @since 2025-10-15
+ */
+public class CountingValleysIndex {
+
+    private int capacity; // number of leaves, power of two
+    private int size;     // steps appended so far
+    private int altitude; // altitude after the last step
+    private int[] min;    // min[node] = lowest altitude in the node's steps
+    private int[] valleys; // valleys[node] = valleys ending in the node's steps
+
+    public static void main(String[] args) {
+        // Steps are indexed from 0; the valley below ends at step 7
+        String path = "UDDDUDUU";
+        CountingValleysIndex index = new CountingValleysIndex(path);
+        System.out.println("valleys[0,7]=" + index.valleys(0, 7)); // 1 (ends at step 7)
+        System.out.println("valleys[0,6]=" + index.valleys(0, 6)); // 0
+        System.out.println("min[0,7]=" + index.minAltitude(0, 7)); // -2
+        System.out.println("min[0,1]=" + index.minAltitude(0, 1)); // 0
+
+        index.append("DDUU"); // second valley, ending at step 11
+        System.out.println("valleys[0,11]=" + index.valleys(0, 11)); // 2
+        System.out.println("valleys[8,11]=" + index.valleys(8, 11)); // 1
+
+        // Cross-check whole-hike queries against the sequential solution
+        String[] paths = { "UDDDUDUU", "DUDUDU", "UUUD", "DDUU" };
+        for (String p : paths) {
+            CountingValleysIndex idx = new CountingValleysIndex("");
+            idx.append(p);
+            int opt = CountingValleys.countingValleysOptimized(p);
+            if (idx.valleys(0, p.length() - 1) != opt)
+                throw new AssertionError("Mismatch for '" + p + "'");
+            System.out.println("path='" + p + "' -> valleys=" + opt);
+        }
+    }
+
+    /** Builds the index over an initial 'U'/'D' path in O(N). */
+    public CountingValleysIndex(CharSequence path) {
+        capacity = Integer.highestOneBit(Math.max(1, path.length() - 1)) << 1;
+        min = new int[2 * capacity];
+        valleys = new int[2 * capacity];
+        Arrays.fill(min, capacity, 2 * capacity, Integer.MAX_VALUE);
+
+        // Fill leaves with prefix altitudes, then build parents bottom-up
+        for (int i = 0; i < path.length(); i++) {
+            setLeaf(i, path.charAt(i));
+        }
+        size = path.length();
+        for (int node = capacity - 1; node >= 1; node--) {
+            pull(node);
+        }
+    }
+
+    /** Number of steps indexed. */
+    public int size() {
+        return size;
+    }
+
+    /** Altitude after the last step. */
+    public int altitude() {
+        return altitude;
+    }
+
+    /** Appends one step ('U' or 'D') in O(log N). */
+    public void append(char step) {
+        if (size == capacity) {
+            grow();
+        }
+        int leaf = setLeaf(size++, step);
+        for (int node = leaf >>> 1; node >= 1; node >>>= 1) {
+            pull(node);
+        }
+    }
+
+    /** Appends every step of {@code steps}. */
+    public void append(CharSequence steps) {
+        for (int i = 0; i < steps.length(); i++) {
+            append(steps.charAt(i));
+        }
+    }
+
+    /**
+     * Number of valleys whose final (climbing-out) step lies in [l, r].
+     *
+     * @throws IndexOutOfBoundsException if the range is not within [0, size())
+     */
+    public int valleys(int l, int r) {
+        checkRange(l, r);
+        int sum = 0;
+        for (int lo = l + capacity, hi = r + capacity + 1; lo < hi; lo >>>= 1, hi >>>= 1) {
+            if ((lo & 1) == 1) {
+                sum += valleys[lo++];
+            }
+            if ((hi & 1) == 1) {
+                sum += valleys[--hi];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Lowest altitude reached right after any step in [l, r].
+     *
+     * @throws IndexOutOfBoundsException if the range is not within [0, size())
+     */
+    public int minAltitude(int l, int r) {
+        checkRange(l, r);
+        int best = Integer.MAX_VALUE;
+        for (int lo = l + capacity, hi = r + capacity + 1; lo < hi; lo >>>= 1, hi >>>= 1) {
+            if ((lo & 1) == 1) {
+                best = Math.min(best, min[lo++]);
+            }
+            if ((hi & 1) == 1) {
+                best = Math.min(best, min[--hi]);
+            }
+        }
+        return best;
+    }
+
+    // Writes leaf i from the current running altitude; returns the leaf's node index
+    private int setLeaf(int i, char step) {
+        if (step != 'U' && step != 'D') {
+            throw new IllegalArgumentException("Step must be 'U' or 'D': " + step);
+        }
+        altitude += (step == 'U') ? 1 : -1;
+        int leaf = i + capacity;
+        min[leaf] = altitude;
+        valleys[leaf] = (step == 'U' && altitude == 0) ? 1 : 0;
+        return leaf;
+    }
+
+    private void pull(int node) {
+        min[node] = Math.min(min[2 * node], min[2 * node + 1]);
+        valleys[node] = valleys[2 * node] + valleys[2 * node + 1];
+    }
+
+    // Double the leaf count: copy leaves, rebuild parents in O(N)
+    private void grow() {
+        int newCapacity = capacity * 2;
+        int[] newMin = new int[2 * newCapacity];
+        int[] newValleys = new int[2 * newCapacity];
+        Arrays.fill(newMin, newCapacity, 2 * newCapacity, Integer.MAX_VALUE);
+        System.arraycopy(min, capacity, newMin, newCapacity, capacity);
+        System.arraycopy(valleys, capacity, newValleys, newCapacity, capacity);
+        capacity = newCapacity;
+        min = newMin;
+        valleys = newValleys;
+        for (int node = capacity - 1; node >= 1; node--) {
+            pull(node);
+        }
+    }
+
+    private void checkRange(int l, int r) {
+        if (l < 0 || r >= size || l > r) {
+            throw new IndexOutOfBoundsException("Range [" + l + ", " + r + "] outside [0, " + size + ")");
+        }
+    }
+}
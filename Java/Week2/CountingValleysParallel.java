@@ -0,0 +1,203 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * CountingValleysParallel.java
+ *
+ * Problem:
+ * Same as CountingValleys - count valleys in a 'U'/'D' hike - but for paths of
+ * billions of steps, using every core.
+ *
+ * Description:
+ * The sequential walk depends on the altitude at each step, so chunks cannot
+ * simply be counted independently. The only thing a chunk needs from the steps
+ * before it is its entry altitude, and that is the sum of the earlier chunks'
+ * net altitude changes. So the count runs in two fork-join passes over
+ * fixed-size chunks:
+ * 1. Net pass: each chunk's net altitude change (ups minus downs), in parallel.
+ * 2. Prefix sum: entry[c] = net[0] + ... + net[c - 1], sequentially over the
+ *    chunk nets (one int per chunk, not per step).
+ * 3. Count pass: each chunk replays its steps from entry[c] and counts the 'U'
+ *    steps that land on sea level, exactly as countingValleysOptimized does;
+ *    the per-chunk counts are summed in a fork-join reduction.
+ * Every chunk is counted with its true entry altitude, so the result matches
+ * the sequential count exactly.
+ *
+ * An earlier version merged per-chunk histograms of 'U' landings by relative
+ * altitude. Those histograms span the whole altitude range of the merged
+ * chunks, so a monotone hike of N steps needed N + 1 longs (8x the input);
+ * the two-pass scheme needs no such summaries.
+ *
+ * Complexity:
+ * - Time: O(N / P + N / C) for C-step chunks - every step is read twice.
+ * - Space: O(N / C) ints for the chunk nets (4 bytes per 1M steps at the
+ *   default chunk size), O(1) per chunk otherwise. Worst case, whatever the
+ *   shape of the hike.
+ *
+ * HackerRank: 3 Months Preparation Kit — Counting Valleys
+ *
+ * @see https://www.hackerrank.com/challenges/three-month-preparation-kit-counting-valleys
+ *
+ *      Author: Drew Mayberry
+ * @since 2025-10-13
+ */
+public class CountingValleysParallel {
+
+    // Steps per chunk; chunks are walked sequentially
+    static final int THRESHOLD = 1 << 20;
+
+    public static void main(String[] args) {
+        String[] paths = { "UDDDUDUU", "DUDUDU", "UUUD", "DDUU", "" };
+        for (String path : paths) {
+            int seq = CountingValleys.countingValleysOptimized(path);
+            long par = countingValleys(path);
+            if (seq != par)
+                throw new AssertionError("Mismatch for '" + path + "': seq=" + seq + ", par=" + par);
+            System.out.println("path='" + path + "' -> valleys=" + par);
+        }
+
+        // Large random hike, counted in small chunks to exercise both passes
+        byte[] steps = new byte[20_000_000];
+        Random rnd = new Random(11);
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = (byte) (rnd.nextBoolean() ? 'U' : 'D');
+        }
+        int seq = CountingValleys.countingValleysOptimized(new String(steps, StandardCharsets.US_ASCII));
+        long par = countingValleys(steps, 1 << 16, ForkJoinPool.commonPool());
+        System.out.println("random 20M steps: seq=" + seq + " par=" + par + " match=" + (seq == par));
+
+        // Deep valley crossing every chunk boundary: 5M downs, then 5M ups
+        byte[] deep = new byte[10_000_000];
+        for (int i = 0; i < deep.length; i++) {
+            deep[i] = (byte) (i < deep.length / 2 ? 'D' : 'U');
+        }
+        System.out.println("deep valley: " + countingValleys(deep, 1 << 16, ForkJoinPool.commonPool())); // 1
+    }
+
+    /** Counts valleys in {@code path} using the common fork-join pool. */
+    public static long countingValleys(String path) {
+        return countingValleys(path.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /** Counts valleys in an ASCII 'U'/'D' byte array using the common fork-join pool. */
+    public static long countingValleys(byte[] steps) {
+        return countingValleys(steps, THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Counts valleys in {@code steps}, walking {@code chunkSize} steps per task in
+     * {@code pool}.
+     *
+     * @throws IllegalArgumentException if chunkSize < 1
+     */
+    public static long countingValleys(byte[] steps, int chunkSize, ForkJoinPool pool) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        int chunks = (int) ((steps.length + (long) chunkSize - 1) / chunkSize);
+        if (chunks == 0) {
+            return 0;
+        }
+        // Pass 1: net change per chunk, then turned in place into entry altitudes
+        int[] entry = new int[chunks];
+        pool.invoke(new NetTask(steps, chunkSize, entry, 0, chunks));
+        int alt = 0;
+        for (int c = 0; c < chunks; c++) {
+            int net = entry[c];
+            entry[c] = alt;
+            alt += net;
+        }
+        // Pass 2: each chunk replayed from its true entry altitude
+        return pool.invoke(new ValleyTask(steps, chunkSize, entry, 0, chunks));
+    }
+
+    // Net altitude change of steps[from, to)
+    static int net(byte[] steps, int from, int to) {
+        int ups = 0;
+        for (int i = from; i < to; i++) {
+            if (steps[i] == 'U') {
+                ups++;
+            }
+        }
+        return ups - (to - from - ups);
+    }
+
+    // Valleys completed in steps[from, to) when entered at altitude alt
+    static long valleys(byte[] steps, int from, int to, int alt) {
+        long valleys = 0;
+        for (int i = from; i < to; i++) {
+            if (steps[i] == 'U') {
+                if (++alt == 0) {
+                    valleys++;
+                }
+            } else {
+                alt--;
+            }
+        }
+        return valleys;
+    }
+
+    // Writes the net change of each chunk in [fromChunk, toChunk) into nets
+    static final class NetTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] steps;
+        private final int chunkSize;
+        private final int[] nets;
+        private final int fromChunk, toChunk;
+
+        NetTask(byte[] steps, int chunkSize, int[] nets, int fromChunk, int toChunk) {
+            this.steps = steps;
+            this.chunkSize = chunkSize;
+            this.nets = nets;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                int from = fromChunk * chunkSize;
+                nets[fromChunk] = net(steps, from, from + Math.min(steps.length - from, chunkSize));
+                return;
+            }
+            int mid = (fromChunk + toChunk) >>> 1;
+            invokeAll(new NetTask(steps, chunkSize, nets, fromChunk, mid),
+                    new NetTask(steps, chunkSize, nets, mid, toChunk));
+        }
+    }
+
+    // Sums the valleys of chunks [fromChunk, toChunk), each entered at entry[c]
+    static final class ValleyTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] steps;
+        private final int chunkSize;
+        private final int[] entry;
+        private final int fromChunk, toChunk;
+
+        ValleyTask(byte[] steps, int chunkSize, int[] entry, int fromChunk, int toChunk) {
+            this.steps = steps;
+            this.chunkSize = chunkSize;
+            this.entry = entry;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected Long compute() {
+            if (toChunk - fromChunk == 1) {
+                int from = fromChunk * chunkSize;
+                return valleys(steps, from, from + Math.min(steps.length - from, chunkSize), entry[fromChunk]);
+            }
+            int mid = (fromChunk + toChunk) >>> 1;
+            ValleyTask left = new ValleyTask(steps, chunkSize, entry, fromChunk, mid);
+            left.fork();
+            long right = new ValleyTask(steps, chunkSize, entry, mid, toChunk).compute();
+            return left.join() + right;
+        }
+    }
+}
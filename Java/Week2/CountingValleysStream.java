@@ -0,0 +1,160 @@
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * CountingValleysStream.java
+ *
+ * Problem:
+ * Same as CountingValleys, but the hike arrives as a byte stream that is too
+ * long to hold as a String (or as the int[n + 1] altitude profile that
+ * countingValleysBrute builds).
+ *
+ * Description:
+ * Bytes are pulled from a ReadableByteChannel into one reused direct buffer.
+ * Only two numbers - current altitude and valleys so far - carry over between
+ * buffers. The inner loop is SWAR (SIMD within a register): 8 steps are loaded
+ * as one long, and popcount of the 'U' bits gives the net altitude change.
+ * ('U' = 0x55 and 'D' = 0x44 differ in bit 0.) A valley can only finish inside
+ * a block if the walk can reach sea level from below within it, so:
+ * - |altitude| well away from 0: skip 32 or 8 steps with popcounts only.
+ * - near sea level: walk those 8 steps one at a time.
+ * Bytes other than 'U'/'D' (e.g. a trailing newline) are ignored.
+ *
+ * Complexity:
+ * - Time: O(N), mostly N / 8 word operations on realistic hikes.
+ * - Space: O(1) beyond the fixed read buffer.
+ *
+ * HackerRank: 3 Months Preparation Kit — Counting Valleys
+ *
+ * @see https://www.hackerrank.com/challenges/three-month-preparation-kit-counting-valleys
+ *
+ *      Author: Drew Mayberry
+ * @since 2025-10-14
+ */
+public class CountingValleysStream {
+
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final long LOW_BITS = 0x0101010101010101L;  // bit 0 of each byte: set for 'U'
+    private static final long D_BYTES = 0x4444444444444444L;   // 'U' ^ 'D' == 0x11 in every byte
+    private static final long NOT_STEP = 0xEEEEEEEEEEEEEEEEL;  // a 'U' or 'D' byte never has these bits set after ^ D_BYTES
+
+    private long altitude;
+    private long valleys;
+
+    public static void main(String[] args) throws IOException {
+        String[] paths = { "UDDDUDUU", "DUDUDU", "UUUD", "DDUU", "", "DDUU\n" };
+        for (String path : paths) {
+            long stream = countingValleys(new ByteArrayInputStream(path.getBytes(StandardCharsets.US_ASCII)));
+            System.out.println("path='" + path.strip() + "' -> valleys=" + stream);
+        }
+
+        // Random hike (long excursions plus many sea-level crossings), cross-checked
+        StringBuilder sb = new StringBuilder();
+        Random rnd = new Random(5);
+        for (int i = 0; i < 5_000_000; i++) {
+            sb.append(rnd.nextBoolean() ? 'U' : 'D');
+        }
+        String hike = sb.toString();
+        long stream = countingValleys(new ByteArrayInputStream(hike.getBytes(StandardCharsets.US_ASCII)));
+        int seq = CountingValleys.countingValleysOptimized(hike);
+        System.out.println("random 5M steps: seq=" + seq + " stream=" + stream + " match=" + (seq == stream));
+    }
+
+    /** Counts valleys from an InputStream of 'U'/'D' bytes without building a String. */
+    public static long countingValleys(InputStream in) throws IOException {
+        return countingValleys(Channels.newChannel(in));
+    }
+
+    /** Counts valleys from a channel of 'U'/'D' bytes without building a String. */
+    public static long countingValleys(ReadableByteChannel ch) throws IOException {
+        CountingValleysStream counter = new CountingValleysStream();
+        ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        while (ch.read(buf) >= 0) {
+            buf.flip();
+            counter.accept(buf);
+            buf.clear();
+        }
+        return counter.valleys();
+    }
+
+    /** Valleys completed so far. */
+    public long valleys() {
+        return valleys;
+    }
+
+    /** Current altitude relative to sea level. */
+    public long altitude() {
+        return altitude;
+    }
+
+    /**
+     * Consumes every remaining byte of {@code buf}. Any chunking of the hike gives
+     * the same result, because only altitude and valleys carry over.
+     */
+    public void accept(ByteBuffer buf) {
+        int i = buf.position();
+        int end = buf.limit();
+        long alt = altitude, count = valleys;
+
+        while (i + Long.BYTES <= end) {
+            // 32 steps cannot complete a valley from >= 32 above or >= 33 below sea level
+            if ((alt >= 32 || alt <= -33) && i + 4 * Long.BYTES <= end) {
+                long w0 = buf.getLong(i), w1 = buf.getLong(i + 8), w2 = buf.getLong(i + 16), w3 = buf.getLong(i + 24);
+                if (isSteps(w0) && isSteps(w1) && isSteps(w2) && isSteps(w3)) {
+                    alt += net(w0) + net(w1) + net(w2) + net(w3);
+                    i += 4 * Long.BYTES;
+                    continue;
+                }
+            }
+            long w = buf.getLong(i);
+            if (isSteps(w) && (alt >= 8 || alt <= -9)) {
+                alt += net(w); // same reasoning, for 8 steps
+            } else {
+                // Near sea level (or non-step bytes): exact step-by-step walk of this word
+                for (int k = 0; k < Long.BYTES; k++) {
+                    byte c = buf.get(i + k);
+                    if (c == 'U') {
+                        if (++alt == 0) {
+                            count++;
+                        }
+                    } else if (c == 'D') {
+                        alt--;
+                    }
+                }
+            }
+            i += Long.BYTES;
+        }
+        // Scalar tail
+        for (; i < end; i++) {
+            byte c = buf.get(i);
+            if (c == 'U') {
+                if (++alt == 0) {
+                    count++;
+                }
+            } else if (c == 'D') {
+                alt--;
+            }
+        }
+
+        buf.position(end);
+        altitude = alt;
+        valleys = count;
+    }
+
+    // True if all 8 bytes are 'U' or 'D': XOR with 'D' leaves 0x00 or 0x11 per byte
+    private static boolean isSteps(long w) {
+        long x = w ^ D_BYTES;
+        return (x & NOT_STEP) == 0 && ((x ^ (x >>> 4)) & LOW_BITS) == 0;
+    }
+
+    // Net altitude change of 8 steps: ups - downs = 2 * ups - 8
+    private static int net(long w) {
+        return 2 * Long.bitCount(w & LOW_BITS) - Long.BYTES;
+    }
+}
@@ -0,0 +1,204 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+/**
+ * File: DiagonalDifferenceFile.java
+ * Challenge: HackerRank — Diagonal Difference (matrix on disk)
+ *
+ * Problem:
+ * The matrix is a binary file of n * n little-endian ints in row-major order,
+ * too large for the heap. Only 2n of the n² elements matter.
+ *
+ * Solution:
+ * Element (r, c) starts at byte (r * n + c) * 4, so each row's two diagonal
+ * elements can be read directly without parsing anything else:
+ * - mapped:     map the file in row-aligned windows of up to 1 GB and read the
+ *               two ints per row; only the pages holding them are faulted in.
+ * - positional: FileChannel.read(buf, position). Small matrices (rows of at
+ *               most 64 KB) are read several whole rows per call. Otherwise
+ *               each row costs one read when its two diagonal elements are
+ *               close (rows near the middle) and two 4-byte reads when they
+ *               are not - FileChannel has no vectored read at scattered
+ *               offsets, so this path costs up to 2n syscalls. Prefer the
+ *               mapped path for large n: it needs one map call per 1 GB.
+ * Both accumulate in long.
+ *
+ * Complexity: O(n) reads and O(n) time, instead of O(n²) parsing.
+ *
+ * @see https://www.hackerrank.com/challenges/three-month-preparation-kit-diagonal-difference
+ *
+ *      Author: Drew Mayberry
+ *      Since: 2025-10-17
+ */
+public class DiagonalDifferenceFile {
+
+    private static final long WINDOW_BYTES = 1L << 30;
+    private static final int SPAN_BYTES = 4096; // read both elements at once if they are this close
+    private static final int BATCH_BYTES = 1 << 16; // rows this short are read several per call
+
+    public static void main(String[] args) throws IOException {
+        int[][] matrix = {
+                { 11, 2, 4 },
+                { 4, 5, 6 },
+                { 10, 8, -12 }
+        };
+        Path file = Files.createTempFile("matrix", ".bin");
+        try {
+            write(file, matrix);
+            System.out.println("Mapped: " + diagonalDifference(file)); // 15
+            try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+                System.out.println("Positional: " + diagonalDifferencePositional(ch, 3)); // 15
+            }
+
+            // Larger matrix, cross-checked against the in-memory FlatMatrix
+            int n = 1500;
+            int[][] big = new int[n][n];
+            Random rnd = new Random(2);
+            for (int[] row : big) {
+                for (int c = 0; c < n; c++) {
+                    row[c] = rnd.nextInt();
+                }
+            }
+            write(file, big);
+            long expected = FlatMatrix.of(big).diagonalDifference();
+            try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+                System.out.println("n=1500 mapped=" + (diagonalDifferenceMapped(ch, n) == expected)
+                        + " positional=" + (diagonalDifferencePositional(ch, n) == expected)); // true true
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Diagonal difference of the square matrix in {@code file}; n is inferred from
+     * the file size.
+     *
+     * @throws IOException if the file size is not 4 * n² for some n
+     */
+    public static long diagonalDifference(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long ints = ch.size() / Integer.BYTES;
+            int n = (int) Math.round(Math.sqrt((double) ints));
+            if ((long) n * n * Integer.BYTES != ch.size()) {
+                throw new IOException("Not a square int matrix: " + ch.size() + " bytes");
+            }
+            return diagonalDifferenceMapped(ch, n);
+        }
+    }
+
+    /** Reads the diagonals through row-aligned memory-mapped windows. */
+    public static long diagonalDifferenceMapped(FileChannel ch, int n) throws IOException {
+        long rowBytes = (long) n * Integer.BYTES;
+        int rowsPerWindow = (int) Math.max(1, WINDOW_BYTES / Math.max(1, rowBytes));
+        long primary = 0, secondary = 0;
+
+        for (int r0 = 0; r0 < n; r0 += rowsPerWindow) {
+            int rows = Math.min(rowsPerWindow, n - r0);
+            MappedByteBuffer window = ch.map(FileChannel.MapMode.READ_ONLY, r0 * rowBytes, rows * rowBytes);
+            window.order(ByteOrder.LITTLE_ENDIAN);
+            for (int k = 0; k < rows; k++) {
+                int r = r0 + k;
+                long rowStart = k * rowBytes;
+                primary += window.getInt((int) (rowStart + (long) r * Integer.BYTES));
+                secondary += window.getInt((int) (rowStart + (long) (n - 1 - r) * Integer.BYTES));
+            }
+        }
+        return Math.abs(primary - secondary);
+    }
+
+    /**
+     * Reads the diagonals with positional FileChannel reads: several rows per read
+     * when a row is at most 64 KB, otherwise one or two reads per row (up to 2n).
+     */
+    public static long diagonalDifferencePositional(FileChannel ch, int n) throws IOException {
+        long rowBytes = (long) n * Integer.BYTES;
+        if (rowBytes <= BATCH_BYTES) {
+            return diagonalDifferenceBatched(ch, n);
+        }
+        ByteBuffer span = ByteBuffer.allocateDirect(SPAN_BYTES + Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer one = ByteBuffer.allocateDirect(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        long primary = 0, secondary = 0;
+
+        for (int r = 0; r < n; r++) {
+            long rowStart = (long) r * n * Integer.BYTES;
+            int left = Math.min(r, n - 1 - r), right = Math.max(r, n - 1 - r);
+            long gap = (long) (right - left) * Integer.BYTES;
+
+            int a, b; // values at columns left and right
+            if (gap <= SPAN_BYTES) {
+                // Middle rows: one read covers both diagonal elements
+                span.clear().limit((int) gap + Integer.BYTES);
+                readFully(ch, span, rowStart + (long) left * Integer.BYTES);
+                a = span.getInt(0);
+                b = span.getInt((int) gap);
+            } else {
+                a = readInt(ch, one, rowStart + (long) left * Integer.BYTES);
+                b = readInt(ch, one, rowStart + (long) right * Integer.BYTES);
+            }
+            // Column r is the primary diagonal, column n - 1 - r the secondary
+            if (left == r) {
+                primary += a;
+                secondary += b;
+            } else {
+                primary += b;
+                secondary += a;
+            }
+        }
+        return Math.abs(primary - secondary);
+    }
+
+    // Small matrices: whole rows, BATCH_BYTES at a time, so n / (BATCH_BYTES / 4n) reads in total
+    private static long diagonalDifferenceBatched(FileChannel ch, int n) throws IOException {
+        int rowBytes = n * Integer.BYTES;
+        int rowsPerRead = Math.max(1, BATCH_BYTES / Math.max(1, rowBytes));
+        ByteBuffer rows = ByteBuffer.allocateDirect(rowsPerRead * rowBytes).order(ByteOrder.LITTLE_ENDIAN);
+        long primary = 0, secondary = 0;
+
+        for (int r0 = 0; r0 < n; r0 += rowsPerRead) {
+            int count = Math.min(rowsPerRead, n - r0);
+            rows.clear().limit(count * rowBytes);
+            readFully(ch, rows, (long) r0 * rowBytes);
+            for (int k = 0; k < count; k++) {
+                int r = r0 + k;
+                primary += rows.getInt(k * rowBytes + r * Integer.BYTES);
+                secondary += rows.getInt(k * rowBytes + (n - 1 - r) * Integer.BYTES);
+            }
+        }
+        return Math.abs(primary - secondary);
+    }
+
+    private static int readInt(FileChannel ch, ByteBuffer buf, long position) throws IOException {
+        buf.clear();
+        readFully(ch, buf, position);
+        return buf.getInt(0);
+    }
+
+    private static void readFully(FileChannel ch, ByteBuffer buf, long position) throws IOException {
+        while (buf.hasRemaining()) {
+            int n = ch.read(buf, position + buf.position());
+            if (n < 0) {
+                throw new IOException("Unexpected end of matrix file at " + (position + buf.position()));
+            }
+        }
+    }
+
+    // Writes a matrix in the binary row-major little-endian layout
+    static void write(Path file, int[][] matrix) throws IOException {
+        int n = matrix.length;
+        ByteBuffer buf = ByteBuffer.allocate(n * n * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int[] row : matrix) {
+            for (int v : row) {
+                buf.putInt(v);
+            }
+        }
+        Files.write(file, buf.array());
+    }
+}
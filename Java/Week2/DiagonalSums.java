@@ -0,0 +1,190 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * File: DiagonalSums.java
+ * Challenge: HackerRank — Diagonal Difference (all diagonals)
+ *
+ * Problem:
+ * diagonalDifference(int[][]) compares only the two main diagonals. For
+ * image-like matrices we need the sum of EVERY diagonal and anti-diagonal.
+ *
+ * Solution:
+ * For a rows x cols matrix there are rows + cols - 1 of each:
+ * - diagonal d = c - r + (rows - 1)    (top-left → bottom-right direction)
+ * - anti-diagonal a = r + c            (top-right → bottom-left direction)
+ * Walking row r left to right, the diagonal index runs over a contiguous
+ * slice starting at rows - 1 - r and the anti-diagonal index over a slice
+ * starting at r. So one sequential pass over the row-major data adds each
+ * row into two contiguous windows of long[] - cache-friendly on both sides.
+ *
+ * Parallel mode splits the rows into bands; each band fills its own pair of
+ * long[] and the partial sums are merged by element-wise addition.
+ *
+ * The classic answer falls out as a special case:
+ * primary = diagonals[rows - 1], secondary = antiDiagonals[cols - 1].
+ *
+ * Complexity: O(rows * cols) time, O(rows + cols) extra space per band.
+ *
+ * @see https://www.hackerrank.com/challenges/three-month-preparation-kit-diagonal-difference
+ *
+ *      Author: Drew Mayberry
+ *      Since: 2025-10-18
+ */
+public class DiagonalSums {
+
+    // Bands smaller than this many elements are summed sequentially
+    static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    /**
+     * Sums of every diagonal and anti-diagonal of a rows x cols matrix.
+     * diagonals[c - r + rows - 1] and antiDiagonals[r + c].
+     */
+    public record Result(int rows, int cols, long[] diagonals, long[] antiDiagonals) {
+
+        /** Sum of the diagonal starting at the top-left corner (0 for an empty matrix). */
+        public long primary() {
+            return isEmpty() ? 0 : diagonals[rows - 1];
+        }
+
+        /** Sum of the anti-diagonal starting at the top-right corner (0 for an empty matrix). */
+        public long secondary() {
+            return isEmpty() ? 0 : antiDiagonals[cols - 1];
+        }
+
+        // 0 x n and n x 0 shapes have no corner to start a diagonal from
+        private boolean isEmpty() {
+            return rows == 0 || cols == 0;
+        }
+
+        /** |primary - secondary|, the DiagonalDifference answer for square matrices. */
+        public long diagonalDifference() {
+            return Math.abs(primary() - secondary());
+        }
+    }
+
+    public static void main(String[] args) {
+        int[][] matrix = {
+                { 11, 2, 4 },
+                { 4, 5, 6 },
+                { 10, 8, -12 }
+        };
+        Result r = of(matrix);
+        System.out.println("Diagonals:      " + Arrays.toString(r.diagonals()));     // [10, 12, 4, 8, 4]
+        System.out.println("Anti-diagonals: " + Arrays.toString(r.antiDiagonals())); // [11, 6, 19, 14, -12]
+        System.out.println("Difference:     " + r.diagonalDifference());             // 15
+
+        // Parallel mode must agree with the sequential pass
+        int rows = 1200, cols = 900;
+        int[] data = new int[rows * cols];
+        Random rnd = new Random(4);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = rnd.nextInt();
+        }
+        Result seq = of(data, rows, cols);
+        Result par = ofParallel(data, rows, cols, ForkJoinPool.commonPool());
+        System.out.println("Parallel matches: " + (Arrays.equals(seq.diagonals(), par.diagonals())
+                && Arrays.equals(seq.antiDiagonals(), par.antiDiagonals()))); // true
+
+        // Empty shapes agree with FlatMatrix/DiagonalDifference
+        System.out.println("Empty: " + of(new int[0][0]).diagonalDifference() + " "
+                + of(new int[0], 3, 0).diagonalDifference()); // 0 0
+    }
+
+    /** All diagonal sums of a rectangular int[][] (every row must have the same length). */
+    public static Result of(int[][] matrix) {
+        int rows = matrix.length;
+        int cols = rows == 0 ? 0 : matrix[0].length;
+        long[] diag = new long[Math.max(0, rows + cols - 1)];
+        long[] anti = new long[diag.length];
+        for (int r = 0; r < rows; r++) {
+            if (matrix[r].length != cols) {
+                throw new IllegalArgumentException("Row " + r + " has length " + matrix[r].length + ", expected " + cols);
+            }
+            addRow(matrix[r], 0, r, rows, cols, diag, anti);
+        }
+        return new Result(rows, cols, diag, anti);
+    }
+
+    /** All diagonal sums of a square FlatMatrix, without copying it. */
+    public static Result of(FlatMatrix matrix) {
+        return of(matrix.rowMajor(), matrix.size(), matrix.size());
+    }
+
+    /** All diagonal sums of a row-major rows x cols matrix stored in {@code data}. */
+    public static Result of(int[] data, int rows, int cols) {
+        checkShape(data, rows, cols);
+        long[] diag = new long[Math.max(0, rows + cols - 1)];
+        long[] anti = new long[diag.length];
+        addRows(data, 0, rows, rows, cols, diag, anti);
+        return new Result(rows, cols, diag, anti);
+    }
+
+    /** Same as {@link #of(int[], int, int)}, splitting rows across the pool. */
+    public static Result ofParallel(int[] data, int rows, int cols, ForkJoinPool pool) {
+        checkShape(data, rows, cols);
+        long[][] sums = pool.invoke(new BandTask(data, 0, rows, rows, cols));
+        return new Result(rows, cols, sums[0], sums[1]);
+    }
+
+    // Adds rows [from, to) into diag/anti
+    private static void addRows(int[] data, int from, int to, int rows, int cols, long[] diag, long[] anti) {
+        for (int r = from; r < to; r++) {
+            addRow(data, r * cols, r, rows, cols, diag, anti);
+        }
+    }
+
+    // Row r occupies diag[rows-1-r .. rows-1-r+cols) and anti[r .. r+cols)
+    private static void addRow(int[] row, int offset, int r, int rows, int cols, long[] diag, long[] anti) {
+        int d = rows - 1 - r;
+        for (int c = 0; c < cols; c++) {
+            long v = row[offset + c];
+            diag[d + c] += v;
+            anti[r + c] += v;
+        }
+    }
+
+    private static void checkShape(int[] data, int rows, int cols) {
+        if (rows < 0 || cols < 0 || (long) rows * cols != data.length) {
+            throw new IllegalArgumentException("Shape " + rows + "x" + cols + " does not match " + data.length + " elements");
+        }
+    }
+
+    // Splits rows in halves; each leaf owns its own partial sums, merged on the way up
+    static final class BandTask extends RecursiveTask<long[][]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] data;
+        private final int from, to, rows, cols;
+
+        BandTask(int[] data, int from, int to, int rows, int cols) {
+            this.data = data;
+            this.from = from;
+            this.to = to;
+            this.rows = rows;
+            this.cols = cols;
+        }
+
+        @Override
+        protected long[][] compute() {
+            if (to - from <= 1 || (long) (to - from) * cols <= PARALLEL_THRESHOLD) {
+                long[] diag = new long[Math.max(0, rows + cols - 1)];
+                long[] anti = new long[diag.length];
+                addRows(data, from, to, rows, cols, diag, anti);
+                return new long[][] { diag, anti };
+            }
+            int mid = (from + to) >>> 1;
+            BandTask top = new BandTask(data, from, mid, rows, cols);
+            top.fork();
+            long[][] bottom = new BandTask(data, mid, to, rows, cols).compute();
+            long[][] merged = top.join();
+            for (int i = 0; i < merged[0].length; i++) {
+                merged[0][i] += bottom[0][i];
+                merged[1][i] += bottom[1][i];
+            }
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * File: FlatMatrix.java
+ * Challenge: HackerRank — Diagonal Difference (flat matrix)
+ *
+ * Problem:
+ * DiagonalDifference sums over int[][] (one object header and one pointer hop
+ * per row) or ArrayList<ArrayList<Integer>> (boxing on every element), and
+ * accumulates in int, which overflows on large matrices.
+ *
+ * Solution:
+ * A square matrix backed by one row-major int[] of n * n elements. Element
+ * (r, c) lives at r * n + c, so the primary diagonal is every (n + 1)-th
+ * element starting at 0 and the secondary diagonal every (n - 1)-th element
+ * starting at n - 1. Both sums are accumulated as long in a single loop.
+ *
+ * Example (same as DiagonalDifference):
+ * 11 2 4 / 4 5 6 / 10 8 -12 → |4 - 19| = 15
+ *
+ * Complexity: O(n) for the diagonal difference, O(n²) for the adapters.
+ * Run "java FlatMatrix --bench [n]" to compare against int[][] and ArrayList.
+ *
+ * @see https://www.hackerrank.com/challenges/three-month-preparation-kit-diagonal-difference
+ *
+ *      Author: Drew Mayberry
+ *      Since: 2025-10-16
+ */
+public final class FlatMatrix {
+
+    private final int n;
+    private final int[] data; // row-major, length n * n
+
+    public static void main(String[] args) {
+        int[][] matrix = {
+                { 11, 2, 4 },
+                { 4, 5, 6 },
+                { 10, 8, -12 }
+        };
+        System.out.println("From int[][]: " + FlatMatrix.of(matrix).diagonalDifference()); // 15
+
+        ArrayList<ArrayList<Integer>> matrix2 = new ArrayList<>();
+        matrix2.add(new ArrayList<>(Arrays.asList(11, 2, 4)));
+        matrix2.add(new ArrayList<>(Arrays.asList(4, 5, 6)));
+        matrix2.add(new ArrayList<>(Arrays.asList(10, 8, -12)));
+        System.out.println("From ArrayList: " + FlatMatrix.of(matrix2).diagonalDifference()); // 15
+
+        // Sums that overflow int: 3 * Integer.MAX_VALUE on the primary diagonal
+        FlatMatrix big = new FlatMatrix(3);
+        for (int i = 0; i < 3; i++) {
+            big.set(i, i, Integer.MAX_VALUE);
+        }
+        System.out.println("Overflow-safe: " + big.diagonalDifference()); // 4294967294 (center is on both)
+
+        if (args.length > 0 && args[0].equals("--bench")) {
+            benchmark(args.length > 1 ? Integer.parseInt(args[1]) : 4_000);
+        }
+    }
+
+    /** Creates an n x n zero matrix. */
+    public FlatMatrix(int n) {
+        if (n < 0 || (long) n * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Unsupported size: " + n);
+        }
+        this.n = n;
+        this.data = new int[n * n];
+    }
+
+    /** Adapter from int[][]; every row must have length matrix.length. */
+    public static FlatMatrix of(int[][] matrix) {
+        FlatMatrix m = new FlatMatrix(matrix.length);
+        for (int r = 0; r < m.n; r++) {
+            if (matrix[r].length != m.n) {
+                throw new IllegalArgumentException("Row " + r + " has length " + matrix[r].length + ", expected " + m.n);
+            }
+            System.arraycopy(matrix[r], 0, m.data, r * m.n, m.n);
+        }
+        return m;
+    }
+
+    /** Adapter from the HackerRank List<List<Integer>> signature; unboxes once. */
+    public static FlatMatrix of(List<? extends List<Integer>> matrix) {
+        FlatMatrix m = new FlatMatrix(matrix.size());
+        int i = 0;
+        for (List<Integer> row : matrix) {
+            if (row.size() != m.n) {
+                throw new IllegalArgumentException("Row " + (i / Math.max(1, m.n)) + " has length " + row.size()
+                        + ", expected " + m.n);
+            }
+            for (int v : row) {
+                m.data[i++] = v;
+            }
+        }
+        return m;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public int get(int r, int c) {
+        return data[index(r, c)];
+    }
+
+    public void set(int r, int c, int value) {
+        data[index(r, c)] = value;
+    }
+
+    /** Sum of the primary diagonal (top-left → bottom-right), as long. */
+    public long primarySum() {
+        long sum = 0;
+        for (int i = 0, step = n + 1; i < data.length; i += step) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    /** Sum of the secondary diagonal (top-right → bottom-left), as long. */
+    public long secondarySum() {
+        long sum = 0;
+        for (int r = 0, i = n - 1; r < n; r++, i += n - 1) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    /**
+     * |primary - secondary| in one pass over the rows, with long accumulation so
+     * the result is exact for any int entries.
+     */
+    public long diagonalDifference() {
+        long primary = 0, secondary = 0;
+        for (int r = 0, p = 0, s = n - 1; r < n; r++, p += n + 1, s += n - 1) {
+            primary += data[p];
+            secondary += data[s];
+        }
+        return Math.abs(primary - secondary);
+    }
+
+    // Backing row-major array, shared (not copied) with engines in this package
+    int[] rowMajor() {
+        return data;
+    }
+
+    private int index(int r, int c) {
+        if (r < 0 || r >= n || c < 0 || c >= n) {
+            throw new IndexOutOfBoundsException("(" + r + ", " + c + ") outside " + n + "x" + n);
+        }
+        return r * n + c;
+    }
+
+    /**
+     * Builds the same random n x n matrix in all three representations and times
+     * construction (allocation) plus the diagonal difference for each.
+     */
+    static void benchmark(int n) {
+        Random rnd = new Random(1);
+        long t0 = System.nanoTime();
+        int[][] jagged = new int[n][n];
+        for (int[] row : jagged) {
+            for (int c = 0; c < n; c++) {
+                row[c] = rnd.nextInt();
+            }
+        }
+        long t1 = System.nanoTime();
+        FlatMatrix flat = FlatMatrix.of(jagged);
+        long t2 = System.nanoTime();
+        List<List<Integer>> boxed = new ArrayList<>(n);
+        for (int[] row : jagged) {
+            List<Integer> list = new ArrayList<>(n);
+            for (int v : row) {
+                list.add(v);
+            }
+            boxed.add(list);
+        }
+        long t3 = System.nanoTime();
+        System.out.printf("%nn=%d build: int[][] %.0f ms, flat (copy) %.0f ms, ArrayList %.0f ms%n",
+                n, (t1 - t0) / 1e6, (t2 - t1) / 1e6, (t3 - t2) / 1e6);
+
+        long sink = 0;
+        double jaggedUs = Double.MAX_VALUE, flatUs = Double.MAX_VALUE, boxedUs = Double.MAX_VALUE;
+        for (int rep = 0; rep < 2_000; rep++) { // early reps double as JIT warm-up
+            long a = System.nanoTime();
+            long p = 0, s = 0;
+            for (int i = 0; i < n; i++) {
+                p += jagged[i][i];
+                s += jagged[i][n - 1 - i];
+            }
+            sink += Math.abs(p - s);
+            long b = System.nanoTime();
+            sink += flat.diagonalDifference();
+            long c = System.nanoTime();
+            p = 0;
+            s = 0;
+            for (int i = 0; i < n; i++) {
+                p += boxed.get(i).get(i);
+                s += boxed.get(i).get(n - 1 - i);
+            }
+            sink += Math.abs(p - s);
+            long d = System.nanoTime();
+            jaggedUs = Math.min(jaggedUs, (b - a) / 1e3);
+            flatUs = Math.min(flatUs, (c - b) / 1e3);
+            boxedUs = Math.min(boxedUs, (d - c) / 1e3);
+        }
+        System.out.printf("diagonal difference: int[][] %.1f us, flat %.1f us, ArrayList %.1f us (sink %d)%n",
+                jaggedUs, flatUs, boxedUs, sink);
+    }
+}
@@ -0,0 +1,156 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * File: FlippingBitsFile.java
+ * Author: Drew Mayberry
+ * Date: 10-20-2025
+ *
+ * Purpose:
+ * Apply the FlippingBits complement to every little-endian uint32 of a
+ * multi-gigabyte binary file, streaming it to an output file.
+ *
+ * Details:
+ * - Two "slots", each a group of direct buffers, alternate roles: while the
+ * main thread flips and writes one slot, a background thread fills the other
+ * with a scattering FileChannel read (double buffering).
+ * - Flipping uses FlippingBitsBulk.flipAll(ByteBuffer): whole longs, in place,
+ * with no per-value long return and no boxing.
+ * - Each slot is written back with one gathering write.
+ * - Memory is constant: 2 slots x SEGMENTS x SEGMENT_BYTES, whatever the file size.
+ *
+ * Complexity:
+ * - Time Complexity: O(n), overlapped with I/O
+ * - Space Complexity: O(1)
+ *
+ * References:
+ * HackerRank Problem:
+ * https://www.hackerrank.com/challenges/three-month-preparation-kit-flipping-bits
+ */
+public class FlippingBitsFile {
+
+    private static final int SEGMENTS = 4;
+    private static final int SEGMENT_BYTES = 1 << 20;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path in = Files.createTempFile("uint32", ".bin");
+        Path out = Files.createTempFile("uint32-flipped", ".bin");
+        try {
+            // 3M values (spans several slots), value i at index i
+            int n = 3_000_000;
+            ByteBuffer raw = ByteBuffer.allocate(n * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < n; i++) {
+                raw.putInt(i);
+            }
+            Files.write(in, raw.array());
+
+            long bytes = transform(in, out);
+            ByteBuffer result = ByteBuffer.wrap(Files.readAllBytes(out)).order(ByteOrder.LITTLE_ENDIAN);
+            boolean ok = bytes == (long) n * Integer.BYTES;
+            for (int i = 0; i < n && ok; i++) {
+                ok = Integer.toUnsignedLong(result.getInt(i * Integer.BYTES)) == FlippingBits.flippingBits(i);
+            }
+            System.out.println("Flipped " + bytes + " bytes, matches flippingBits: " + ok); // true
+            System.out.println("First value: " + Integer.toUnsignedLong(result.getInt(0))); // 4294967295
+        } finally {
+            Files.deleteIfExists(in);
+            Files.deleteIfExists(out);
+        }
+    }
+
+    /**
+     * Writes the bitwise complement of every uint32 in {@code in} to {@code out}.
+     *
+     * @param in  binary file of 4-byte values
+     * @param out destination file (created or truncated)
+     * @return number of bytes written
+     * @throws IOException if I/O fails or the input size is not a multiple of 4
+     */
+    public static long transform(Path in, Path out) throws IOException, InterruptedException {
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try (FileChannel src = FileChannel.open(in, StandardOpenOption.READ);
+                FileChannel dst = FileChannel.open(out, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            if (src.size() % Integer.BYTES != 0) {
+                throw new IOException("File size is not a multiple of " + Integer.BYTES + ": " + src.size());
+            }
+            ByteBuffer[][] slots = { newSlot(), newSlot() };
+            int current = 0;
+            long total = 0;
+
+            Future<Long> pending = reader.submit(() -> fill(src, slots[0]));
+            while (true) {
+                long n = await(pending);
+                if (n == 0) {
+                    return total;
+                }
+                // Start reading the next slot before touching this one
+                final int next = 1 - current;
+                pending = reader.submit(() -> fill(src, slots[next]));
+
+                ByteBuffer[] slot = slots[current];
+                for (ByteBuffer b : slot) {
+                    b.flip();
+                    FlippingBitsBulk.flipAll(b);
+                }
+                writeFully(dst, slot);
+                total += n;
+                current = next;
+            }
+        } finally {
+            reader.shutdownNow();
+        }
+    }
+
+    private static ByteBuffer[] newSlot() {
+        ByteBuffer[] slot = new ByteBuffer[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            slot[i] = ByteBuffer.allocateDirect(SEGMENT_BYTES);
+        }
+        return slot;
+    }
+
+    // Scattering read until the slot is full or the file ends; returns bytes read
+    private static long fill(FileChannel src, ByteBuffer[] slot) throws IOException {
+        for (ByteBuffer b : slot) {
+            b.clear();
+        }
+        long total = 0;
+        while (slot[slot.length - 1].hasRemaining()) {
+            long n = src.read(slot);
+            if (n < 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+
+    // Gathering write of everything between position and limit of each buffer
+    private static void writeFully(FileChannel dst, ByteBuffer[] slot) throws IOException {
+        long remaining = 0;
+        for (ByteBuffer b : slot) {
+            remaining += b.remaining();
+        }
+        while (remaining > 0) {
+            remaining -= dst.write(slot);
+        }
+    }
+
+    private static long await(Future<Long> f) throws IOException, InterruptedException {
+        try {
+            return f.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Read failed", e.getCause());
+        }
+    }
+}
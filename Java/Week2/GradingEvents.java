@@ -0,0 +1,125 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Program: GradingEvents
+ *
+ * Description:
+ * JDK Flight Recorder tracing for GradingStudents.gradingStudents2. Instead of
+ * printing a line per grade, the rounding path emits one Rounding event with
+ * the same reasoning (grade, quotient, nextMultiple, difference, decision).
+ *
+ * Cost:
+ * - Recording off: emit() builds an event, sees isEnabled() == false and
+ * returns. The JIT removes the allocation, so the check is essentially free.
+ * - Recording on: events go to JFR's thread-local buffers, no console I/O.
+ *
+ * Usage:
+ * 1. Record with the bundled profile (only this event, no stack traces):
+ * java -XX:StartFlightRecording:settings=grading-trace.jfc,filename=grading.jfr GradingStudents
+ * 2. Summarize the recording:
+ * java GradingEvents grading.jfr
+ *
+ * Decisions: FAILING (< 38), SKIPPED (> 100), ROUNDED_UP, KEPT.
+ */
+public class GradingEvents {
+
+    static final String EVENT_NAME = "hackerrank.GradingStudents.Rounding";
+
+    @Name(EVENT_NAME)
+    @Label("Grade Rounding")
+    @Category({ "HackerRank", "GradingStudents" })
+    @Description("One rounding decision made by GradingStudents.gradingStudents2")
+    @StackTrace(false)
+    static final class Rounding extends Event {
+        @Label("Grade")
+        int grade;
+
+        @Label("Quotient")
+        @Description("grade / 5, or -1 when no rounding was attempted")
+        int quotient;
+
+        @Label("Next Multiple")
+        @Description("Next multiple of 5, or -1 when no rounding was attempted")
+        int nextMultiple;
+
+        @Label("Difference")
+        int difference;
+
+        @Label("Decision")
+        String decision;
+
+        @Label("Result")
+        int result;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.out.println("Usage: java GradingEvents <recording.jfr>");
+            return;
+        }
+        print(summarize(Path.of(args[0])));
+    }
+
+    /**
+     * Emits one rounding decision. Pass -1 for quotient, nextMultiple and difference
+     * when the grade was not considered for rounding.
+     */
+    static void emit(int grade, int quotient, int nextMultiple, int difference, String decision, int result) {
+        Rounding event = new Rounding();
+        if (!event.isEnabled()) {
+            return; // recording off: nothing else runs
+        }
+        event.grade = grade;
+        event.quotient = quotient;
+        event.nextMultiple = nextMultiple;
+        event.difference = difference;
+        event.decision = decision;
+        event.result = result;
+        event.commit();
+    }
+
+    /**
+     * Counts Rounding events in a recording by decision, plus how many grades each
+     * rounding step (difference 1 or 2) moved.
+     *
+     * @return map from label ("decision ROUNDED_UP", "difference 2", ...) to count
+     */
+    public static Map<String, Long> summarize(Path recording) throws IOException {
+        Map<String, Long> counts = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent e = file.readEvent();
+                if (!e.getEventType().getName().equals(EVENT_NAME)) {
+                    continue;
+                }
+                String decision = e.getString("decision");
+                counts.merge("decision " + decision, 1L, Long::sum);
+                if (decision.equals("ROUNDED_UP")) {
+                    counts.merge("difference " + e.getInt("difference"), 1L, Long::sum);
+                }
+                counts.merge("total", 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    static void print(Map<String, Long> summary) {
+        if (summary.isEmpty()) {
+            System.out.println("No " + EVENT_NAME + " events in recording");
+            return;
+        }
+        summary.forEach((label, count) -> System.out.printf("%-22s %d%n", label, count));
+    }
+}
@@ -1,7 +1,12 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import jdk.jfr.Recording;
+
 /**
  * Program: GradingStudents
  *
@@ -21,8 +26,8 @@ import java.util.stream.Collectors;
  * This program contains:
  * 1. gradingStudents() - fundamental solution using loops and modulus (%).
  * 2. gradingStudentsStream() - modern, functional solution using Java Streams.
- * 3. gradingStudents2() - debugging helper that prints intermediate
- * calculations.
+ * 3. gradingStudents2() - debugging helper that records intermediate
+ * calculations as JFR events (see GradingEvents).
  *
  * Complexity:
  * - Time: O(n) where n = number of grades (single pass)
@@ -30,7 +35,7 @@ import java.util.stream.Collectors;
  */
 public class GradingStudents {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         List<Integer> grades = new ArrayList<>(List.of(23, 78, 72, 89, 99, 32, 56, 66, 62, 87, 81, 91));
 
         System.out.println("=== Fundamental Solution ===");
@@ -41,8 +46,21 @@ public class GradingStudents {
         List<Integer> roundedStream = gradingStudentsStream(grades);
         System.out.println("Rounded Grades: " + roundedStream);
 
-        System.out.println("\n=== Debug Visualization ===");
-        gradingStudents2(grades);
+        System.out.println("\n=== Debug Visualization (JFR) ===");
+        try (Recording recording = new Recording()) {
+            recording.enable(GradingEvents.EVENT_NAME);
+            recording.start();
+            gradingStudents2(grades);
+            recording.stop();
+
+            Path file = Files.createTempFile("grading", ".jfr");
+            try {
+                recording.dump(file);
+                GradingEvents.print(GradingEvents.summarize(file));
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
     }
 
     /**
@@ -96,20 +114,21 @@ public class GradingStudents {
 
     /**
      * Debugging helper:
-     * Prints the math behind finding the next multiple of 5 for each grade.
-     * Helps visualize how integer division and rounding work.
+     * Records the math behind finding the next multiple of 5 for each grade as
+     * one JFR event per grade (GradingEvents.Rounding). With no recording running
+     * the events cost essentially nothing, so this is safe on real data.
      */
     public static List<Integer> gradingStudents2(List<Integer> grades) {
         List<Integer> result = new ArrayList<>();
 
         for (Integer grade : grades) {
             if (grade < 38) {
-                System.out.println("Grade " + grade + " is < 38 → No rounding");
+                GradingEvents.emit(grade, -1, -1, -1, "FAILING", grade);
                 result.add(grade);
                 continue;
             }
             if (grade > 100) {
-                System.out.println("Grade " + grade + " is > 100 → Skipping");
+                GradingEvents.emit(grade, -1, -1, -1, "SKIPPED", grade);
                 continue;
             }
 
@@ -117,16 +136,11 @@ public class GradingStudents {
             int nextMultiple = (quotient + 1) * 5; // first number in next bucket
             int difference = nextMultiple - grade; // how far we are from that multiple
 
-            // Detailed printout to visualize step-by-step process
-            System.out.printf(
-                    "Grade: %d | quotient (grade/5): %d | nextMultiple: %d | difference: %d%n",
-                    grade, quotient, nextMultiple, difference);
-
             if (difference < 3) {
-                System.out.println("→ Rounding UP to " + nextMultiple);
+                GradingEvents.emit(grade, quotient, nextMultiple, difference, "ROUNDED_UP", nextMultiple);
                 result.add(nextMultiple);
             } else {
-                System.out.println("→ Keeping original grade: " + grade);
+                GradingEvents.emit(grade, quotient, nextMultiple, difference, "KEPT", grade);
                 result.add(grade);
             }
         }
@@ -0,0 +1,159 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Program: GradingStudentsTable
+ *
+ * Description:
+ * Same rounding rules as GradingStudents, for very large batches of grades.
+ * Grades live in 0..100, so every possible answer is computed once into a
+ * 101-entry int lookup table. Rounding a grade is then a single array read:
+ * no modulo, no boxing and no result list.
+ *
+ * This program contains:
+ * 1. round(int) - one table lookup.
+ * 2. gradeAll(int[], policy) - rewrites an int[] in place.
+ * 3. gradeAll(int[], int[], policy) - writes into a preallocated output array.
+ * 4. gradeAllParallel(int[], policy) - in-place rewrite split across cores,
+ * for 10^8 records.
+ *
+ * Out-of-range values (below 0 or above 100) are never dropped silently, as
+ * gradingStudentsStream's filter does; the caller chooses a Policy:
+ * - REJECT: throw IllegalArgumentException naming the index and value. The
+ * whole input is range-checked before anything is written, so on failure the
+ * caller's array is left exactly as it was (also in place and in parallel).
+ * - KEEP: leave the value unchanged.
+ * - CLAMP: clamp into 0..100, then round.
+ *
+ * Complexity:
+ * - Time: O(n) with one table read per grade
+ * - Space: O(1) beyond the 101-entry table (in place) or the caller's output
+ */
+public class GradingStudentsTable {
+
+    /** What to do with grades outside 0..100. */
+    public enum Policy {
+        REJECT, KEEP, CLAMP
+    }
+
+    // ROUNDED[g] = rounded grade for g in 0..100, using the GradingStudents rules
+    private static final int[] ROUNDED = new int[101];
+
+    static {
+        for (int g = 0; g <= 100; g++) {
+            int remainder = g % 5;
+            ROUNDED[g] = (g >= 38 && remainder >= 3) ? g + (5 - remainder) : g;
+        }
+    }
+
+    public static void main(String[] args) {
+        int[] grades = { 23, 78, 72, 89, 99, 32, 56, 66, 62, 87, 81, 91 };
+
+        System.out.println("=== Lookup Table (in place) ===");
+        gradeAll(grades, Policy.REJECT);
+        System.out.println("Rounded Grades: " + Arrays.toString(grades));
+
+        System.out.println("\n=== Out-of-range Policies ===");
+        int[] odd = { 84, 120, -3, 57 };
+        int[] out = new int[odd.length];
+        gradeAll(odd, out, Policy.KEEP);
+        System.out.println("KEEP:  " + Arrays.toString(out)); // [85, 120, -3, 57]
+        gradeAll(odd, out, Policy.CLAMP);
+        System.out.println("CLAMP: " + Arrays.toString(out)); // [85, 100, 0, 57]
+        int[] inPlace = { 84, 120, 57 };
+        try {
+            gradeAll(inPlace, Policy.REJECT);
+        } catch (IllegalArgumentException e) {
+            System.out.println("REJECT: " + e.getMessage());
+        }
+        System.out.println("Untouched: " + Arrays.toString(inPlace)); // [84, 120, 57]
+
+        System.out.println("\n=== Parallel (10M grades) ===");
+        int[] many = new int[10_000_000];
+        Random rnd = new Random(8);
+        for (int i = 0; i < many.length; i++) {
+            many[i] = rnd.nextInt(101);
+        }
+        int[] expected = many.clone();
+        gradeAll(expected, Policy.REJECT);
+        gradeAllParallel(many, Policy.REJECT);
+        System.out.println("Matches sequential: " + Arrays.equals(many, expected)); // true
+    }
+
+    /**
+     * Rounds one grade in 0..100 with a single table lookup.
+     *
+     * @throws ArrayIndexOutOfBoundsException if grade is outside 0..100
+     */
+    public static int round(int grade) {
+        return ROUNDED[grade];
+    }
+
+    /** Rounds every grade of {@code grades} in place. */
+    public static void gradeAll(int[] grades, Policy policy) {
+        gradeAll(grades, grades, policy);
+    }
+
+    /**
+     * Rounds {@code in} into the preallocated {@code out} (which may be {@code in}).
+     *
+     * @throws IllegalArgumentException if out is shorter than in, or a grade is out
+     *                                  of range under Policy.REJECT (nothing is
+     *                                  written in that case)
+     */
+    public static void gradeAll(int[] in, int[] out, Policy policy) {
+        if (out.length < in.length) {
+            throw new IllegalArgumentException("Output too small: " + out.length + " < " + in.length);
+        }
+        if (policy == Policy.REJECT) {
+            for (int i = 0; i < in.length; i++) {
+                if (in[i] < 0 || in[i] > 100) {
+                    throw outOfRange(in, i);
+                }
+            }
+        }
+        for (int i = 0; i < in.length; i++) {
+            out[i] = grade(in, i, policy);
+        }
+    }
+
+    /**
+     * Rounds every grade in place using the common fork-join pool. Each element is
+     * read and written only by its own index, so no synchronization is needed.
+     *
+     * @throws IllegalArgumentException if a grade is out of range under
+     *                                  Policy.REJECT (nothing is written in that
+     *                                  case; the lowest bad index is reported)
+     */
+    public static void gradeAllParallel(int[] grades, Policy policy) {
+        if (policy == Policy.REJECT) {
+            IntStream.range(0, grades.length).parallel()
+                    .filter(i -> grades[i] < 0 || grades[i] > 100)
+                    .findFirst()
+                    .ifPresent(i -> {
+                        throw outOfRange(grades, i);
+                    });
+        }
+        Arrays.parallelSetAll(grades, i -> grade(grades, i, policy));
+    }
+
+    private static int grade(int[] in, int i, Policy policy) {
+        int g = in[i];
+        if (g >= 0 && g <= 100) {
+            return ROUNDED[g]; // fast path: one branch, one load
+        }
+        switch (policy) {
+            case KEEP:
+                return g;
+            case CLAMP:
+                return ROUNDED[Math.max(0, Math.min(100, g))];
+            default:
+                throw outOfRange(in, i); // REJECT inputs were checked up front
+        }
+    }
+
+    private static IllegalArgumentException outOfRange(int[] in, int i) {
+        return new IllegalArgumentException("Grade out of range at index " + i + ": " + in[i]);
+    }
+}
@@ -1,7 +1,5 @@
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * File: LonelyInteger.java
@@ -12,7 +10,7 @@ import java.util.Map;
  * find the unique element that appears exactly once.
  * 
  * Multiple solution approaches demonstrated:
- *   1. HashMap frequency counting - O(n) time, O(n) space
+ *   1. Bit counting (LonelyIntegerK, k = 2) - O(32n) time, O(1) space
  *   2. Nested loop brute force - O(n²) time, O(1) space  
  *   3. XOR bit manipulation - O(n) time, O(1) space (optimal)
  * 
@@ -25,42 +23,42 @@ public class LonelyInteger {
     public static void main(String[] args) {
         // Test case: All methods should return 4 as the lonely integer
         List<Integer> arr = new ArrayList<>(List.of(1, 2, 3, 4, 3, 2, 1));
-        System.out.println("Result: " + lonelyIntegerMap(arr));
+        System.out.println("Result: " + lonelyIntegerBitCount(arr));
         System.out.println("Result: " + lonelyIntegerLoop(arr));
         System.out.println("Result: " + lonelyIntegerXOR(arr));
     }
 
     /**
-     * HASHMAP APPROACH: Build frequency map, then find element with count = 1
-     * 
-     * Algorithm: Two-pass solution
-     *   Pass 1: Count frequency of each element using HashMap
-     *   Pass 2: Find element with frequency = 1
-     * 
-     * Time Complexity: O(n) - two linear passes through array
-     * Space Complexity: O(n) - HashMap stores up to n/2 unique elements
-     * 
-     * Pros: Clear, readable, handles general case (not just pairs)
-     * Cons: Uses extra memory, requires two passes
+     * COUNTING APPROACH: Count set bits per position instead of values per key
+     *
+     * Algorithm: Delegates to LonelyIntegerK.lonelyInteger(arr, 2)
+     *   Each of the 32 bit positions is counted over the array; values that
+     *   appear twice add an even count, so count % 2 is the lonely value's bit.
+     *   The same code handles values repeated k times (k = 3, 4, ...).
+     *
+     * Time Complexity: O(32 * n) - one bit count per position per element
+     * Space Complexity: O(1) - 32 counters, no HashMap of distinct values
+     *
+     * Only correct when every other value appears exactly twice: unlike a
+     * frequency map it does not look for "the value with count 1", so
+     * [1, 1, 1, 2] gives 3, not 2. Use LonelyIntegerK for other repeat counts.
+     *
+     * Pros: Constant memory, generalizes to any repetition count k
+     * Cons: Slower constant factor than XOR when k = 2
      */
-    public static int lonelyIntegerMap(List<Integer> arr) {
-        int result = 0;
-        Map<Integer, Integer> frequencyMap = new HashMap<>();
-
-        // Pass 1: Build frequency map - count occurrences of each element
-        for (Integer num : arr) {
-            // getOrDefault() safely handles missing keys, avoids null checks
-            frequencyMap.put(num, frequencyMap.getOrDefault(num, 0) + 1);
-        }
-
-        // Pass 2: Find element that appears exactly once
-        for (Map.Entry<Integer, Integer> entry : frequencyMap.entrySet()) {
-            if (entry.getValue().equals(1)) { // Found the lonely integer
-                result = entry.getKey();
-            }
-        }
+    public static int lonelyIntegerBitCount(List<Integer> arr) {
+        return LonelyIntegerK.lonelyInteger(arr, 2);
+    }
 
-        return result;
+    /**
+     * Same as lonelyIntegerBitCount: only correct when every other value appears
+     * exactly twice.
+     *
+     * @deprecated No longer map-based; use {@link #lonelyIntegerBitCount(List)}.
+     */
+    @Deprecated
+    public static int lonelyIntegerMap(List<Integer> arr) {
+        return lonelyIntegerBitCount(arr);
     }
 
     /**
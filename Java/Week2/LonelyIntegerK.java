@@ -0,0 +1,181 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * File: LonelyIntegerK.java
+ *
+ * HackerRank 3 Months Preparation Kit - Week 2: Lonely Integer (values repeated k times)
+ *
+ * Problem: One element appears exactly once; every other element appears
+ * exactly k times (k >= 2). Find the element that appears once.
+ *
+ * The XOR trick in LonelyInteger only cancels pairs (k = 2), and a HashMap
+ * of frequencies stores every distinct value. Counting bits instead works
+ * for any k: for each of the 32 bit positions, count how many elements have
+ * that bit set. Values repeated k times add a multiple of k to every count,
+ * so count % k is exactly the lonely value's bit (0 or 1).
+ *
+ * Approaches:
+ *   1. lonelyInteger(int[], k) - 32 bit counters, filled one cache-sized block
+ *      at a time so each bit pass is a tight loop the JIT can vectorize.
+ *   2. lonelyIntegerParallel(int[], k) - fork-join: each task counts its slice
+ *      into its own long[32]; counters are merged by addition.
+ *   3. lonelyInteger(List<Integer>, k) - the boxed-list form that
+ *      LonelyInteger.lonelyIntegerBitCount delegates to (k = 2).
+ *
+ * Time Complexity: O(32 * n)
+ * Space Complexity: O(1) - 32 counters (per task in parallel mode)
+ *
+ * @see Problem URL: https://www.hackerrank.com/challenges/three-month-preparation-kit-lonely-integer/problem
+ * @author Drew Mayberry
+ * @since 2025-10-21
+ */
+public class LonelyIntegerK {
+
+    static final int THRESHOLD = 1 << 16;
+    private static final int BLOCK = 1024; // 4 KB of ints, stays in L1 across 32 bit passes
+
+    public static void main(String[] args) {
+        // Test case: same input as LonelyInteger (k = 2) - expected 4
+        List<Integer> arr = List.of(1, 2, 3, 4, 3, 2, 1);
+        System.out.println("Result: " + lonelyInteger(arr, 2));
+        System.out.println("lonelyIntegerXOR: " + LonelyInteger.lonelyIntegerXOR(arr)); // 4
+
+        // Test case: every other value three times - expected -7
+        int[] triples = { 5, -7, 5, 9, 9, 5, 9 };
+        System.out.println("Result (k=3): " + lonelyInteger(triples, 3));
+
+        // 1M distinct values repeated 4 times plus one lonely value, shuffled
+        int[] big = repeatedWithLonely(1_000_000, 4, 20251021, 45);
+        System.out.println("Result (k=4): " + lonelyInteger(big, 4)); // 20251021
+        System.out.println("Parallel (k=4): " + lonelyIntegerParallel(big, 4)); // 20251021
+
+        try {
+            lonelyInteger(triples, 1);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * BIT COUNTING: lonely value of {@code arr} when every other value appears k times.
+     *
+     * @throws IllegalArgumentException if k < 2
+     */
+    public static int lonelyInteger(int[] arr, int k) {
+        checkK(k);
+        long[] counts = new long[Integer.SIZE];
+        countBits(arr, 0, arr.length, counts);
+        return fromCounts(counts, k);
+    }
+
+    /**
+     * BIT COUNTING over a boxed list in O(1) memory; backs
+     * LonelyInteger.lonelyIntegerBitCount (k = 2).
+     *
+     * @throws IllegalArgumentException if k < 2
+     */
+    public static int lonelyInteger(List<Integer> arr, int k) {
+        checkK(k);
+        long[] counts = new long[Integer.SIZE];
+        for (int num : arr) {
+            for (int b = 0; b < Integer.SIZE; b++) {
+                counts[b] += (num >>> b) & 1;
+            }
+        }
+        return fromCounts(counts, k);
+    }
+
+    /**
+     * PARALLEL BIT COUNTING in the common fork-join pool.
+     *
+     * @throws IllegalArgumentException if k < 2
+     */
+    public static int lonelyIntegerParallel(int[] arr, int k) {
+        checkK(k);
+        return fromCounts(ForkJoinPool.commonPool().invoke(new CountTask(arr, 0, arr.length)), k);
+    }
+
+    // Adds the number of set bits at each position over arr[from, to) into counts
+    static void countBits(int[] arr, int from, int to, long[] counts) {
+        for (int start = from; start < to; start += BLOCK) {
+            int end = Math.min(to, start + BLOCK);
+            for (int b = 0; b < Integer.SIZE; b++) {
+                int c = 0;
+                for (int i = start; i < end; i++) {
+                    c += (arr[i] >>> b) & 1;
+                }
+                counts[b] += c;
+            }
+        }
+    }
+
+    // Bit b of the answer is whatever is left of counts[b] after removing multiples of k
+    private static int fromCounts(long[] counts, int k) {
+        int result = 0;
+        for (int b = 0; b < Integer.SIZE; b++) {
+            if (counts[b] % k != 0) {
+                result |= 1 << b;
+            }
+        }
+        return result;
+    }
+
+    private static void checkK(int k) {
+        if (k < 2) {
+            throw new IllegalArgumentException("k must be at least 2: " + k);
+        }
+    }
+
+    // Per-task bit counters, merged by addition
+    static final class CountTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int from, to;
+
+        CountTask(int[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= THRESHOLD) {
+                long[] counts = new long[Integer.SIZE];
+                countBits(arr, from, to, counts);
+                return counts;
+            }
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(arr, from, mid);
+            left.fork();
+            long[] counts = new CountTask(arr, mid, to).compute();
+            long[] other = left.join();
+            for (int b = 0; b < Integer.SIZE; b++) {
+                counts[b] += other[b];
+            }
+            return counts;
+        }
+    }
+
+    private static int[] repeatedWithLonely(int distinct, int k, int lonely, long seed) {
+        Random rnd = new Random(seed);
+        int[] a = new int[distinct * k + 1];
+        for (int i = 0; i < distinct; i++) {
+            int v = rnd.nextInt();
+            Arrays.fill(a, i * k, i * k + k, v);
+        }
+        a[a.length - 1] = lonely;
+        for (int i = a.length - 1; i > 0; i--) { // Fisher-Yates shuffle
+            int j = rnd.nextInt(i + 1);
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,158 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * File: LonelyIntegerXor.java
+ *
+ * HackerRank 3 Months Preparation Kit - Week 2: Lonely Integer (huge inputs)
+ *
+ * Problem: Same as LonelyInteger - every value appears twice except one - but
+ * the input is an int[] with hundreds of millions of elements, or a binary
+ * file of several gigabytes.
+ *
+ * XOR is associative and commutative, so any split and any order of the input
+ * gives the same answer as lonelyIntegerXOR's single fold:
+ *   1. xorParallel(int[]) - fork-join reduce: halves are XORed independently
+ *      and the partial results XORed together.
+ *   2. xorFile(Path) - streams little-endian ints through one direct buffer
+ *      and XORs them 2 per long (SWAR lanes) with 4 independent accumulators;
+ *      the lanes are folded into one int at the end. The loop does far less
+ *      work per byte than the disk delivers, so the scan is I/O-bound.
+ *
+ * Time Complexity: O(n / P) for the array version, O(n) I/O for the file
+ * Space Complexity: O(log n) task stack / O(1) beyond the read buffer
+ *
+ * @see Problem URL: https://www.hackerrank.com/challenges/three-month-preparation-kit-lonely-integer/problem
+ * @author Drew Mayberry
+ * @since 2025-10-21
+ */
+public class LonelyIntegerXor {
+
+    static final int THRESHOLD = 1 << 16;
+    private static final int BUFFER_BYTES = 8 << 20;
+
+    public static void main(String[] args) throws IOException {
+        // Test case: same input as LonelyInteger - expected 4
+        int[] small = { 1, 2, 3, 4, 3, 2, 1 };
+        System.out.println("Parallel result: " + xorParallel(small));
+
+        // 5M pairs plus one lonely value, shuffled
+        int[] big = pairsWithLonely(5_000_000, -123456789, 6);
+        System.out.println("Parallel result: " + xorParallel(big)); // -123456789
+
+        Path file = Files.createTempFile("lonely", ".bin");
+        try {
+            ByteBuffer raw = ByteBuffer.allocate(big.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            raw.asIntBuffer().put(big);
+            Files.write(file, raw.array());
+            System.out.println("File result: " + xorFile(file)); // -123456789
+
+            // Cross-check with the original boxed fold
+            List<Integer> boxed = new ArrayList<>(big.length);
+            for (int v : big) {
+                boxed.add(v);
+            }
+            System.out.println("lonelyIntegerXOR: " + LonelyInteger.lonelyIntegerXOR(boxed));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * OPTIMAL PARALLEL XOR: fork-join reduce over {@code arr} in the common pool.
+     */
+    public static int xorParallel(int[] arr) {
+        return ForkJoinPool.commonPool().invoke(new XorTask(arr, 0, arr.length));
+    }
+
+    /**
+     * STREAMING XOR: XOR of every little-endian int in a binary file.
+     *
+     * @throws IOException if reading fails or the size is not a multiple of 4
+     */
+    public static int xorFile(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() % Integer.BYTES != 0) {
+                throw new IOException("File size is not a multiple of " + Integer.BYTES + ": " + ch.size());
+            }
+            ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            long a0 = 0, a1 = 0, a2 = 0, a3 = 0; // 4 accumulators x 2 int lanes each
+            int tail = 0;
+
+            while (ch.read(buf) >= 0) {
+                buf.flip();
+                int i = 0, end = buf.limit();
+                for (; i + 4 * Long.BYTES <= end; i += 4 * Long.BYTES) {
+                    a0 ^= buf.getLong(i);
+                    a1 ^= buf.getLong(i + 8);
+                    a2 ^= buf.getLong(i + 16);
+                    a3 ^= buf.getLong(i + 24);
+                }
+                for (; i + Integer.BYTES <= end; i += Integer.BYTES) {
+                    tail ^= buf.getInt(i);
+                }
+                buf.position(i);
+                buf.compact(); // keep a partial int (if a read split one) for the next pass
+            }
+            // Fold accumulators, then the two 32-bit lanes of the result
+            long acc = a0 ^ a1 ^ a2 ^ a3;
+            return (int) acc ^ (int) (acc >>> 32) ^ tail;
+        }
+    }
+
+    // Splits in halves until THRESHOLD; partial XORs combine with ^
+    static final class XorTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int from, to;
+
+        XorTask(int[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= THRESHOLD) {
+                int result = 0;
+                for (int i = from; i < to; i++) {
+                    result ^= arr[i];
+                }
+                return result;
+            }
+            int mid = (from + to) >>> 1;
+            XorTask left = new XorTask(arr, from, mid);
+            left.fork();
+            int right = new XorTask(arr, mid, to).compute();
+            return left.join() ^ right;
+        }
+    }
+
+    private static int[] pairsWithLonely(int pairs, int lonely, long seed) {
+        Random rnd = new Random(seed);
+        int[] a = new int[2 * pairs + 1];
+        for (int i = 0; i < pairs; i++) {
+            a[2 * i] = a[2 * i + 1] = rnd.nextInt();
+        }
+        a[2 * pairs] = lonely;
+        for (int i = a.length - 1; i > 0; i--) { // Fisher-Yates shuffle
+            int j = rnd.nextInt(i + 1);
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+        return a;
+    }
+}
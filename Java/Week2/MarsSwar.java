@@ -0,0 +1,162 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * MarsSwar.java
+ *
+ * Problem:
+ * Same as Mars - count the letters of a received message that differ from
+ * the repeating "SOS" sequence - for very long transmission buffers.
+ *
+ * Description:
+ * marsExplorationOptimized pays a modulo and a charAt lookup per letter, and
+ * marsExploration builds a whole expected StringBuilder. This version works
+ * on bytes, 8 letters per long (SWAR - SIMD within a register):
+ *
+ * - The expected text "SOSSOSSOS..." is precomputed as three longs, one per
+ * 8-byte window. 24 bytes is a multiple of both 3 and 8, so one step of three
+ * longs always starts at pattern phase 0 and needs no modulo.
+ * - w ^ expected has a zero byte exactly where a letter matches. A per-byte
+ * "non-zero" test sets the top bit of every mismatched byte, and
+ * Long.bitCount of that mask counts the mismatches: 24 letters per step.
+ * - The last (len % 24) bytes are compared one at a time.
+ *
+ * The Vector API is still incubating, so the lanes here are the 8 bytes of a
+ * long; the inner loop has no branches and no array bounds checks.
+ *
+ * Complexity:
+ * Time: O(n) with n / 24 steps, Space: O(1).
+ *
+ * Notes:
+ * - Any byte values are handled; input does not have to be uppercase.
+ * - The length does not have to be a multiple of 3.
+ *
+ * @see https://www.hackerrank.com/challenges/three-month-preparation-kit-mars-exploration
+ * @author Drew Mayberry
+ * @since 2025-10-22
+ */
+public class MarsSwar {
+
+    private static final byte[] EXPECTED = "SOS".getBytes(StandardCharsets.US_ASCII);
+    private static final int STEP = 3 * Long.BYTES; // 24 letters = 8 whole "SOS" groups
+
+    // "SOSSOSSO", "SSOSSOSS", "OSSOSSOS" in native byte order
+    private static final long P0, P1, P2;
+
+    private static final long LOW7 = 0x7F7F7F7F7F7F7F7FL;
+    private static final long HIGH = 0x8080808080808080L;
+
+    static {
+        ByteBuffer pattern = ByteBuffer.allocate(STEP).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < STEP; i++) {
+            pattern.put(EXPECTED[i % 3]);
+        }
+        P0 = pattern.getLong(0);
+        P1 = pattern.getLong(8);
+        P2 = pattern.getLong(16);
+    }
+
+    public static void main(String[] args) {
+        String s1 = "SOSTOT"; // Example with 2 corrupted letters
+        String s2 = "SOSSPSSQSSOR"; // Example with 3 corrupted letters
+
+        System.out.println(marsExploration(s1)); // 2
+        System.out.println(marsExploration(s2)); // 3
+
+        // Long message crossing many 24-byte steps plus a tail
+        Random rnd = new Random(46);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100_003; i++) {
+            sb.append(rnd.nextInt(10) == 0 ? (char) ('A' + rnd.nextInt(26)) : "SOS".charAt(i % 3));
+        }
+        String s3 = sb.toString();
+        System.out.println("Matches marsExplorationOptimized: "
+                + (marsExploration(s3) == Mars.marsExplorationOptimized(s3))); // true
+
+        // Direct buffer, counted from its position
+        ByteBuffer direct = ByteBuffer.allocateDirect(s2.length() + 2);
+        direct.put((byte) 'x').put((byte) 'x').put(s2.getBytes(StandardCharsets.US_ASCII)).position(2);
+        System.out.println(marsExploration(direct)); // 3
+
+        if (args.length > 0 && args[0].equals("--bench")) {
+            benchmark(args.length > 1 ? Integer.parseInt(args[1]) : 10_000_000);
+        }
+    }
+
+    /** SWAR count over the characters of {@code s} (non-ASCII chars always mismatch). */
+    public static int marsExploration(String s) {
+        return marsExploration(s.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /** SWAR count over a whole byte array. */
+    public static int marsExploration(byte[] message) {
+        return marsExploration(ByteBuffer.wrap(message));
+    }
+
+    /**
+     * SWAR count over the bytes between position and limit of {@code buf} (heap or
+     * direct). The byte at position is pattern phase 0. Position, limit and byte
+     * order of {@code buf} are unchanged.
+     */
+    public static int marsExploration(ByteBuffer buf) {
+        // The patterns were built in native order, so read words the same way
+        ByteBuffer view = buf.duplicate().order(ByteOrder.nativeOrder());
+        int i = view.position();
+        int end = view.limit();
+        int changed = 0;
+
+        for (; i + STEP <= end; i += STEP) {
+            changed += mismatches(view.getLong(i) ^ P0)
+                    + mismatches(view.getLong(i + 8) ^ P1)
+                    + mismatches(view.getLong(i + 16) ^ P2);
+        }
+        // Tail: (i - position) is a multiple of 24, so the phase restarts at 0
+        for (int phase = 0; i < end; i++, phase = phase == 2 ? 0 : phase + 1) {
+            if (view.get(i) != EXPECTED[phase]) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    // Number of non-zero bytes in x: the top bit of each byte ends up set iff the byte is non-zero
+    static int mismatches(long x) {
+        long t = ((x & LOW7) + LOW7) | x;
+        return Long.bitCount(t & HIGH);
+    }
+
+    /** Times marsExplorationOptimized against the SWAR kernel on the same message. */
+    static void benchmark(int n) {
+        Random rnd = new Random(7);
+        char[] chars = new char[n];
+        for (int i = 0; i < n; i++) {
+            chars[i] = rnd.nextInt(20) == 0 ? 'X' : "SOS".charAt(i % 3);
+        }
+        String s = new String(chars);
+        byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(n).put(bytes).flip();
+
+        long[] sink = new long[1];
+        double charAt = best(() -> sink[0] += Mars.marsExplorationOptimized(s));
+        double array = best(() -> sink[0] += marsExploration(bytes));
+        double buffer = best(() -> sink[0] += marsExploration(direct));
+
+        System.out.printf("%nn=%,d letters%n", n);
+        System.out.printf("charAt(i %% 3):       %8.2f ms%n", charAt);
+        System.out.printf("SWAR byte[]:         %8.2f ms%n", array);
+        System.out.printf("SWAR direct buffer:  %8.2f ms%n", buffer);
+        System.out.println("(checksum " + sink[0] + ")");
+    }
+
+    private static double best(Runnable r) {
+        double best = Double.MAX_VALUE;
+        for (int rep = 0; rep < 30; rep++) { // early reps double as JIT warm-up
+            long t0 = System.nanoTime();
+            r.run();
+            best = Math.min(best, (System.nanoTime() - t0) / 1e6);
+        }
+        return best;
+    }
+}
@@ -142,4 +142,16 @@ public class Pangram {
         }
         return (mask == FULL) ? "Pangram" : "Not Pangram";
     }
+
+    /**
+     * Letter index 0..25 of c ('a'/'A' -> 0 ... 'z'/'Z' -> 25), or -1 for a
+     * non-letter. Same normalization as the methods above.
+     */
+    static int letterIndex(char c) {
+        if (c >= 'A' && c <= 'Z')
+            c = (char) (c + 32);
+        if (c < 'a' || c > 'z')
+            return -1;
+        return c - 'a';
+    }
 }
@@ -0,0 +1,221 @@
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * PangramBatch.java
+ *
+ * Problem:
+ *   Classify millions of short documents as pangram / not pangram. Calling
+ *   isPangramBitmask per document costs a String per document going in and a
+ *   "Pangram" / "Not Pangram" String per document coming out.
+ *
+ * Description:
+ *   Documents are packed back to back in one byte[] arena; document i is
+ *   arena[offsets[i] .. offsets[i] + lengths[i]). Results are written as one
+ *   bit per document, into a BitSet or a caller-supplied boolean[].
+ *
+ *   - Letter-to-bit mapping: PangramStream.LETTER_BITS, a 256-entry table, so
+ *     each byte is one load and one OR with no case or range branches.
+ *   - The scan keeps 4 independent masks over 16-byte steps (no dependency
+ *     between neighbouring bytes) and checks for all 26 bits once per step.
+ *   - classifyParallel splits the documents across a fork-join pool. Split
+ *     points are multiples of 64 documents, so every task owns whole long
+ *     words of the BitSet and no two tasks write the same word.
+ *
+ * Complexity:
+ *   - Time: O(total bytes) / P, with early exit inside each document
+ *   - Space: O(n / 64) words for the BitSet, O(1) per document
+ *
+ * @see  https://www.hackerrank.com/challenges/three-month-preparation-kit-pangrams
+ * @author  Drew Mayberry
+ * @since   2025-10-23
+ */
+public class PangramBatch {
+
+    static final int THRESHOLD = 1 << 12; // documents per leaf task; a multiple of 64
+
+    public static void main(String[] args) {
+        String[] docs = {
+                "We promptly judged antique ivory buckles for the next prize", // Pangram
+                "We promptly judged antique kles for the next prize", // Not Pangram
+                "The quick brown fox jumps over the lazy dog", // Pangram
+                "", // Not Pangram
+        };
+        ByteArrayOutputStream arena = new ByteArrayOutputStream();
+        int[] offsets = new int[docs.length];
+        int[] lengths = new int[docs.length];
+        for (int i = 0; i < docs.length; i++) {
+            byte[] b = docs[i].getBytes(StandardCharsets.US_ASCII);
+            offsets[i] = arena.size();
+            lengths[i] = b.length;
+            arena.writeBytes(b);
+        }
+        System.out.println(classify(arena.toByteArray(), offsets, lengths)); // {0, 2}
+
+        // 1M random short documents, cross-checked against isPangramBitmask
+        int n = 1_000_000;
+        Random rnd = new Random(49);
+        String[] texts = new String[n];
+        byte[] packed = new byte[n * 64];
+        offsets = new int[n];
+        lengths = new int[n];
+        int pos = 0;
+        for (int i = 0; i < n; i++) {
+            int len = 26 + rnd.nextInt(39);
+            char[] c = new char[len];
+            for (int j = 0; j < len; j++) {
+                int r = rnd.nextInt(30);
+                c[j] = r < 26 ? (char) ((rnd.nextBoolean() ? 'a' : 'A') + r) : ' ';
+            }
+            if (rnd.nextInt(4) == 0) { // make about a quarter of them pangrams
+                for (int j = 0; j < 26 && j < len; j++) {
+                    c[j] = (char) ('a' + j);
+                }
+            }
+            texts[i] = new String(c);
+            offsets[i] = pos;
+            lengths[i] = len;
+            for (char ch : c) {
+                packed[pos++] = (byte) ch;
+            }
+        }
+        boolean[] expected = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = Pangram.isPangramBitmask(texts[i]).equals("Pangram");
+        }
+
+        boolean[] flags = new boolean[n];
+        classifyParallel(packed, offsets, lengths, flags, ForkJoinPool.commonPool());
+        BitSet bits = classifyParallel(packed, offsets, lengths, ForkJoinPool.commonPool());
+        boolean bitsMatch = bits.length() <= n;
+        for (int i = 0; i < n && bitsMatch; i++) {
+            bitsMatch = bits.get(i) == expected[i];
+        }
+        System.out.println("Pangrams: " + bits.cardinality() + " of " + n);
+        System.out.println("boolean[] matches isPangramBitmask: " + Arrays.equals(flags, expected)); // true
+        System.out.println("BitSet matches isPangramBitmask: " + bitsMatch); // true
+    }
+
+    /** Sequential classification into a new BitSet; bit i set iff document i is a pangram. */
+    public static BitSet classify(byte[] arena, int[] offsets, int[] lengths) {
+        long[] words = new long[wordsFor(offsets, lengths)];
+        new ClassifyTask(arena, offsets, lengths, words, null, 0, offsets.length).classifyRange();
+        return BitSet.valueOf(words);
+    }
+
+    /** Sequential classification into {@code out}; out[i] is true iff document i is a pangram. */
+    public static void classify(byte[] arena, int[] offsets, int[] lengths, boolean[] out) {
+        checkOutput(offsets, lengths, out);
+        new ClassifyTask(arena, offsets, lengths, null, out, 0, offsets.length).classifyRange();
+    }
+
+    /** Parallel classification into a new BitSet using {@code pool}. */
+    public static BitSet classifyParallel(byte[] arena, int[] offsets, int[] lengths, ForkJoinPool pool) {
+        long[] words = new long[wordsFor(offsets, lengths)];
+        pool.invoke(new ClassifyTask(arena, offsets, lengths, words, null, 0, offsets.length));
+        return BitSet.valueOf(words);
+    }
+
+    /** Parallel classification into {@code out} using {@code pool}. */
+    public static void classifyParallel(byte[] arena, int[] offsets, int[] lengths, boolean[] out,
+            ForkJoinPool pool) {
+        checkOutput(offsets, lengths, out);
+        pool.invoke(new ClassifyTask(arena, offsets, lengths, null, out, 0, offsets.length));
+    }
+
+    /**
+     * True if arena[from, from + len) contains every letter a..z, ignoring case.
+     *
+     * @throws IndexOutOfBoundsException if the range is outside arena
+     */
+    public static boolean isPangram(byte[] arena, int from, int len) {
+        if (from < 0 || len < 0 || from > arena.length - len) {
+            throw new IndexOutOfBoundsException("Document [" + from + ", " + from + " + " + len
+                    + ") outside arena of " + arena.length + " bytes");
+        }
+        final int[] bits = PangramStream.LETTER_BITS;
+        int i = from, end = from + len;
+        int m0 = 0, m1 = 0, m2 = 0, m3 = 0;
+        for (; i + 16 <= end; i += 16) {
+            m0 |= bits[arena[i] & 0xFF] | bits[arena[i + 4] & 0xFF] | bits[arena[i + 8] & 0xFF] | bits[arena[i + 12] & 0xFF];
+            m1 |= bits[arena[i + 1] & 0xFF] | bits[arena[i + 5] & 0xFF] | bits[arena[i + 9] & 0xFF] | bits[arena[i + 13] & 0xFF];
+            m2 |= bits[arena[i + 2] & 0xFF] | bits[arena[i + 6] & 0xFF] | bits[arena[i + 10] & 0xFF] | bits[arena[i + 14] & 0xFF];
+            m3 |= bits[arena[i + 3] & 0xFF] | bits[arena[i + 7] & 0xFF] | bits[arena[i + 11] & 0xFF] | bits[arena[i + 15] & 0xFF];
+            if ((m0 | m1 | m2 | m3) == PangramStream.FULL) {
+                return true; // early exit, once per 16 bytes
+            }
+        }
+        int mask = m0 | m1 | m2 | m3;
+        for (; i < end; i++) {
+            mask |= bits[arena[i] & 0xFF];
+        }
+        return mask == PangramStream.FULL;
+    }
+
+    private static int wordsFor(int[] offsets, int[] lengths) {
+        checkLengths(offsets, lengths);
+        return (offsets.length + 63) >>> 6;
+    }
+
+    private static void checkOutput(int[] offsets, int[] lengths, boolean[] out) {
+        checkLengths(offsets, lengths);
+        if (out.length < offsets.length) {
+            throw new IllegalArgumentException("Output too small: " + out.length + " < " + offsets.length);
+        }
+    }
+
+    private static void checkLengths(int[] offsets, int[] lengths) {
+        if (offsets.length != lengths.length) {
+            throw new IllegalArgumentException(
+                    "offsets and lengths differ in size: " + offsets.length + " != " + lengths.length);
+        }
+    }
+
+    // Classifies documents [from, to) into exactly one of words or flags
+    static final class ClassifyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] arena;
+        private final int[] offsets, lengths;
+        private final long[] words;
+        private final boolean[] flags;
+        private final int from, to;
+
+        ClassifyTask(byte[] arena, int[] offsets, int[] lengths, long[] words, boolean[] flags, int from, int to) {
+            this.arena = arena;
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.words = words;
+            this.flags = flags;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                classifyRange();
+                return;
+            }
+            int mid = ((from + to) >>> 1) & ~63; // word-aligned split: tasks never share a long
+            invokeAll(new ClassifyTask(arena, offsets, lengths, words, flags, from, mid),
+                    new ClassifyTask(arena, offsets, lengths, words, flags, mid, to));
+        }
+
+        void classifyRange() {
+            for (int d = from; d < to; d++) {
+                boolean pangram = isPangram(arena, offsets[d], lengths[d]);
+                if (flags != null) {
+                    flags[d] = pangram;
+                } else if (pangram) {
+                    words[d >>> 6] |= 1L << d; // shift uses the low 6 bits of d
+                }
+            }
+        }
+    }
+}
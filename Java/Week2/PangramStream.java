@@ -0,0 +1,159 @@
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * PangramStream.java
+ *
+ * Problem:
+ *   Same question as Pangram - does the text contain every letter a..z,
+ *   ignoring case and non-letters? - but the text is a large document behind
+ *   an InputStream or ReadableByteChannel.
+ *
+ * Description:
+ *   isPangramBitmask exits early, but only after the caller has read the whole
+ *   document into a String. Here the document is pulled in small buffers and
+ *   reading stops as soon as the 26-bit mask is full, so a pangram found in the
+ *   first kilobyte costs about one kilobyte of I/O, however large the source.
+ *
+ *   - Letters are mapped with a 256-entry table: LETTER_BITS[b] is the mask bit
+ *     of 'a' + i for 'A' + i and 'a' + i, and 0 for every other byte (same
+ *     normalization as Pangram's +32 lowercase and a..z filter).
+ *   - Bytes >= 0x80 are never letters, so UTF-8 text works unchanged.
+ *   - detect() returns a Detection with the verdict, the bytes read from the
+ *     source and the offset just past the letter that completed the mask.
+ *
+ * Complexity:
+ *   - Time: O(k), k = bytes up to the completing letter (rounded up to a buffer)
+ *   - Space: O(1) beyond one buffer
+ *
+ * @see  https://www.hackerrank.com/challenges/three-month-preparation-kit-pangrams
+ * @author  Drew Mayberry
+ * @since   2025-10-23
+ */
+public class PangramStream {
+
+    static final int FULL = (1 << 26) - 1;
+    static final int DEFAULT_BUFFER_BYTES = 1024;
+
+    // LETTER_BITS[b & 0xFF] = 1 << (lowercase(b) - 'a') for ASCII letters, else 0
+    static final int[] LETTER_BITS = new int[256];
+
+    static {
+        for (int i = 0; i < 26; i++) {
+            LETTER_BITS['a' + i] = 1 << i;
+            LETTER_BITS['A' + i] = 1 << i;
+        }
+    }
+
+    /**
+     * Outcome of one scan.
+     *
+     * @param pangram     true if all 26 letters were seen
+     * @param bytesRead   bytes pulled from the source (scanning stops at the buffer
+     *                    that completed the mask)
+     * @param completedAt offset just past the completing letter, or -1 if none
+     */
+    public record Detection(boolean pangram, long bytesRead, long completedAt) {
+
+        /** "Pangram" / "Not Pangram", like the Pangram methods. */
+        public String verdict() {
+            return pangram ? "Pangram" : "Not Pangram";
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String s1 = "We promptly judged antique ivory buckles for the next prize"; // Pangram
+        String s2 = "We promptly judged antique kles for the next prize"; // Not Pangram
+
+        System.out.println(detect(stream(s1)).verdict()); // Pangram
+        System.out.println(detect(stream(s2)).verdict()); // Not Pangram
+        System.out.println(detect(stream(s1)).completedAt()); // 58 (just past the 'z' of "prize")
+
+        // 10 MB document that is a pangram within its first sentence
+        byte[] head = "The quick brown fox jumps over the lazy dog. ".getBytes(StandardCharsets.US_ASCII);
+        byte[] doc = new byte[10 << 20];
+        System.arraycopy(head, 0, doc, 0, head.length);
+        Arrays.fill(doc, head.length, doc.length, (byte) 'x');
+
+        Detection d = detect(new ByteArrayInputStream(doc), 256);
+        System.out.println(d.verdict() + " after reading " + d.bytesRead() + " of " + doc.length + " bytes"); // 256
+        System.out.println("Completed at byte " + d.completedAt()); // 43 ('g' of "dog")
+
+        Detection whole = detect(Channels.newChannel(new ByteArrayInputStream(doc, head.length, doc.length - head.length)));
+        System.out.println(whole.verdict() + " after reading " + whole.bytesRead() + " bytes"); // Not Pangram, all of it
+    }
+
+    /** Scans {@code in} with the default buffer size; stops once the text is a pangram. */
+    public static Detection detect(InputStream in) throws IOException {
+        return detect(in, DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * Scans {@code in} in reads of at most {@code bufferBytes}; stops once the text
+     * is a pangram. The stream is not closed.
+     *
+     * @throws IllegalArgumentException if bufferBytes < 1
+     */
+    public static Detection detect(InputStream in, int bufferBytes) throws IOException {
+        if (bufferBytes < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferBytes);
+        }
+        byte[] buf = new byte[bufferBytes];
+        int mask = 0;
+        long read = 0;
+        int n;
+        while ((n = in.read(buf, 0, bufferBytes)) >= 0) {
+            for (int i = 0; i < n; i++) {
+                mask |= LETTER_BITS[buf[i] & 0xFF];
+                if (mask == FULL) {
+                    return new Detection(true, read + n, read + i + 1);
+                }
+            }
+            read += n;
+        }
+        return new Detection(false, read, -1);
+    }
+
+    /** Scans {@code ch} with the default buffer size; stops once the text is a pangram. */
+    public static Detection detect(ReadableByteChannel ch) throws IOException {
+        return detect(ch, DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * Scans {@code ch} in reads of at most {@code bufferBytes}; stops once the text
+     * is a pangram. The channel is not closed.
+     *
+     * @throws IllegalArgumentException if bufferBytes < 1
+     */
+    public static Detection detect(ReadableByteChannel ch, int bufferBytes) throws IOException {
+        if (bufferBytes < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferBytes);
+        }
+        ByteBuffer buf = ByteBuffer.allocate(bufferBytes);
+        byte[] arr = buf.array();
+        int mask = 0;
+        long read = 0;
+        int n;
+        while ((n = ch.read(buf)) >= 0) {
+            for (int i = 0; i < n; i++) {
+                mask |= LETTER_BITS[arr[i] & 0xFF];
+                if (mask == FULL) {
+                    return new Detection(true, read + n, read + i + 1);
+                }
+            }
+            read += n;
+            buf.clear();
+        }
+        return new Detection(false, read, -1);
+    }
+
+    private static InputStream stream(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,289 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PangramWindow.java
+ *
+ * Problem:
+ *   Beyond "is the text a pangram?": find the shortest substring that contains
+ *   all 26 letters, and the pangram windows of length at most L.
+ *   - Mode.MINIMAL (minimalWindows, scan): every MINIMAL window (dropping its
+ *     first or last character would lose a letter). There are at most n of
+ *     them, and every pangram substring contains at least one.
+ *   - Mode.ALL (allWindows, scan with Mode.ALL): EVERY pangram substring of
+ *     length at most L, e.g. both "abc...z" and "abc...za". There can be
+ *     O(n * L) of them, so they are streamed to a WindowConsumer.
+ *
+ * Description:
+ *   Two-pointer sliding window over Pangram.letterIndex (same case folding and
+ *   non-letter filter as Pangram):
+ *   - int[26] counts for the window and a 'distinct' counter, as in
+ *     pangramBoolean.
+ *   - Right pointer: each new character is added.
+ *   - Left pointer: once distinct == 26, leading non-letters and letters that
+ *     occur again later in the window are dropped, so left is the largest
+ *     start of a pangram window ending at the right pointer.
+ *   - MINIMAL: the window is kept one letter short of a pangram, so when
+ *     distinct reaches 26 the newest character is the only copy of its letter
+ *     and [left, right] is minimal. Dropping one more character brings distinct
+ *     back to 25.
+ *   - ALL: the window stays a pangram; for each right end, every start from
+ *     right - maxLen + 1 up to left is reported. Those starts are all within
+ *     the last maxLen characters.
+ *   - The window is capped at maxLen characters (a ring buffer of letter
+ *     indices), so an unbounded Reader runs in O(maxLen) memory: characters
+ *     older than maxLen cannot start a window of interest and are dropped.
+ *
+ *   accept(char) allocates nothing; windows are reported to a WindowConsumer
+ *   as (start offset, length).
+ *
+ * Complexity:
+ *   - Time: O(n) - each character enters and leaves the window once - plus one
+ *     sink call per reported window.
+ *   - Space: O(maxLen) for the ring buffer, O(1) otherwise.
+ *
+ * @see  https://www.hackerrank.com/challenges/three-month-preparation-kit-pangrams
+ * @author  Drew Mayberry
+ * @since   2025-10-24
+ */
+public class PangramWindow {
+
+    private static final int READ_CHARS = 8192;
+
+    /** Which pangram windows an engine reports. */
+    public enum Mode {
+        /** Only windows that lose a letter when either end is dropped. */
+        MINIMAL,
+        /** Every pangram window of length at most maxLen. */
+        ALL
+    }
+
+    /**
+     * Receives each reported window as (start offset, length): minimal windows for
+     * Mode.MINIMAL, every pangram window up to maxLen for Mode.ALL.
+     */
+    @FunctionalInterface
+    public interface WindowConsumer {
+        void accept(long start, int length);
+    }
+
+    /** A window [start, start + length) of the input. */
+    public record Window(long start, int length) {
+
+        public long end() {
+            return start + length;
+        }
+
+        /** The window's text, for inputs held in memory. */
+        public String of(CharSequence s) {
+            return s.subSequence((int) start, (int) end()).toString();
+        }
+    }
+
+    private final byte[] ring; // letter index (or -1) of the last maxLen characters
+    private final int[] counts = new int[26];
+    private final WindowConsumer sink;
+    private final Mode mode;
+    private int distinct;
+    private long left;         // offset of the first character in the window
+    private long consumed;     // offset one past the last character
+    private long bestStart = -1;
+    private int bestLength = Integer.MAX_VALUE;
+
+    public static void main(String[] args) throws IOException {
+        String s1 = "The quick brown fox jumps over the lazy dog"; // Pangram
+        String s2 = "We promptly judged antique kles for the next prize"; // Not Pangram
+
+        Window w = shortest(s1);
+        System.out.println(w + " -> \"" + w.of(s1) + "\""); // start=4, length=39: "The " is not needed
+        System.out.println(shortest(s2)); // null
+
+        // Two pangrams separated by filler: the tighter one wins
+        String s3 = "Pack my box with five dozen liquor jugs!!! zzz "
+                + "Sphinx of black quartz, judge my vow. The end";
+        Window best = shortest(s3);
+        System.out.println("Shortest: \"" + best.of(s3) + "\"");
+        // "Sphinx of black quartz, judge my vow"
+
+        for (Window m : minimalWindows(s3, 40)) {
+            System.out.println("<= 40: \"" + m.of(s3) + "\"");
+        }
+
+        // Streaming from a Reader with a 40-character window buffer
+        List<Window> seen = new ArrayList<>();
+        Window streamed = scan(new StringReader(s3), 40, (start, length) -> seen.add(new Window(start, length)));
+        System.out.println("Streamed: " + streamed + ", " + seen.size() + " minimal windows"); // same as above
+        System.out.println("Matches in-memory: " + (streamed.equals(best) && seen.equals(minimalWindows(s3, 40)))); // true
+
+        // Every pangram window, not only minimal ones: "abc...z", "abc...za", "bc...za"
+        String s4 = "abcdefghijklmnopqrstuvwxyza";
+        allWindows(s4, 30, (start, length) -> System.out.println("all <= 30: [" + start + ", +" + length + ")"));
+
+        // Same from a Reader, with only a 30-character window buffer
+        int[] all = new int[1];
+        scan(new StringReader(s4), 30, Mode.ALL, (start, length) -> all[0]++);
+        System.out.println("Streamed all windows: " + all[0]); // 3
+    }
+
+    /**
+     * Creates an engine that keeps at most {@code maxLen} characters and reports
+     * minimal pangram windows to {@code sink} (which may be null).
+     *
+     * @throws IllegalArgumentException if maxLen < 26
+     */
+    public PangramWindow(int maxLen, WindowConsumer sink) {
+        this(maxLen, Mode.MINIMAL, sink);
+    }
+
+    /**
+     * Creates an engine that keeps at most {@code maxLen} characters and reports
+     * the windows selected by {@code mode} to {@code sink} (which may be null).
+     *
+     * @throws IllegalArgumentException if maxLen < 26
+     */
+    public PangramWindow(int maxLen, Mode mode, WindowConsumer sink) {
+        if (maxLen < 26) {
+            throw new IllegalArgumentException("maxLen must be at least 26: " + maxLen);
+        }
+        this.ring = new byte[maxLen];
+        this.mode = mode;
+        this.sink = sink;
+    }
+
+    /** Shortest pangram substring of {@code s}, or null if s is not a pangram. */
+    public static Window shortest(CharSequence s) {
+        if (s.length() < 26) {
+            return null;
+        }
+        PangramWindow engine = new PangramWindow(s.length(), null);
+        engine.accept(s);
+        return engine.shortest();
+    }
+
+    /**
+     * Every minimal pangram window of {@code s} with length at most maxLen, in
+     * order of their end offsets.
+     *
+     * @throws IllegalArgumentException if maxLen < 26
+     */
+    public static List<Window> minimalWindows(CharSequence s, int maxLen) {
+        List<Window> found = new ArrayList<>();
+        PangramWindow engine = new PangramWindow(maxLen, (start, length) -> found.add(new Window(start, length)));
+        engine.accept(s);
+        return found;
+    }
+
+    /**
+     * Reports every pangram substring of {@code s} with length at most maxLen to
+     * {@code sink} (Mode.ALL), grouped by end offset and by increasing start
+     * within a group.
+     *
+     * @throws IllegalArgumentException if maxLen < 26
+     */
+    public static void allWindows(CharSequence s, int maxLen, WindowConsumer sink) {
+        new PangramWindow(maxLen, Mode.ALL, sink).accept(s);
+    }
+
+    /**
+     * Streams {@code in} through an engine bounded to maxLen characters, reporting
+     * minimal windows to {@code sink}. The reader is not closed.
+     *
+     * @return the shortest window of length at most maxLen, or null if none
+     * @throws IllegalArgumentException if maxLen < 26
+     */
+    public static Window scan(Reader in, int maxLen, WindowConsumer sink) throws IOException {
+        return scan(in, maxLen, Mode.MINIMAL, sink);
+    }
+
+    /**
+     * Streams {@code in} through an engine bounded to maxLen characters, reporting
+     * the windows selected by {@code mode} to {@code sink}. Memory stays
+     * O(maxLen) in both modes. The reader is not closed.
+     *
+     * @return the shortest window of length at most maxLen, or null if none
+     * @throws IllegalArgumentException if maxLen < 26
+     */
+    public static Window scan(Reader in, int maxLen, Mode mode, WindowConsumer sink) throws IOException {
+        PangramWindow engine = new PangramWindow(maxLen, mode, sink);
+        char[] buf = new char[READ_CHARS];
+        int n;
+        while ((n = in.read(buf)) >= 0) {
+            for (int i = 0; i < n; i++) {
+                engine.accept(buf[i]);
+            }
+        }
+        return engine.shortest();
+    }
+
+    /** Adds every character of {@code s}. */
+    public void accept(CharSequence s) {
+        for (int i = 0; i < s.length(); i++) {
+            accept(s.charAt(i));
+        }
+    }
+
+    /** Adds one character to the right end of the window. */
+    public void accept(char c) {
+        if (consumed - left == ring.length) {
+            dropLeft(); // at the cap: the oldest character goes even if it was needed
+        }
+        int idx = Pangram.letterIndex(c);
+        ring[(int) (consumed % ring.length)] = (byte) idx; // slot of the character just dropped
+        consumed++;
+        if (idx >= 0 && counts[idx]++ == 0) {
+            distinct++;
+        }
+        if (distinct < 26) {
+            return;
+        }
+        // Drop leading characters the window does not need: left becomes the
+        // largest start of a pangram window ending here
+        while (true) {
+            int first = ring[(int) (left % ring.length)];
+            if (first >= 0 && counts[first] == 1) {
+                break;
+            }
+            dropLeft();
+        }
+        int length = (int) (consumed - left);
+        if (length < bestLength) {
+            bestLength = length;
+            bestStart = left;
+        }
+        if (mode == Mode.ALL) {
+            if (sink != null) {
+                // Every start from the oldest one within maxLen up to left still has all 26 letters
+                for (long start = Math.max(0, consumed - ring.length); start <= left; start++) {
+                    sink.accept(start, (int) (consumed - start));
+                }
+            }
+            return; // the window stays a pangram for the next right end
+        }
+        // MINIMAL: the newest character completed the set, so it is its letter's only copy
+        if (sink != null) {
+            sink.accept(left, length);
+        }
+        dropLeft(); // back below 26 letters: the next window needs a new right end
+    }
+
+    /** Shortest pangram window seen so far (always a minimal one), or null. */
+    public Window shortest() {
+        return bestStart < 0 ? null : new Window(bestStart, bestLength);
+    }
+
+    /** Characters consumed so far. */
+    public long consumed() {
+        return consumed;
+    }
+
+    private void dropLeft() {
+        int first = ring[(int) (left % ring.length)];
+        if (first >= 0 && --counts[first] == 0) {
+            distinct--;
+        }
+        left++;
+    }
+}
@@ -0,0 +1,223 @@
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * RepeatingPatternCounter.java
+ *
+ * Problem:
+ * Mars counts letters that differ from a repeating "SOS". A radio decoder
+ * checks arbitrary repeating preambles instead, over a byte stream that never
+ * fits in memory. Count the bytes that differ from pattern repeated forever.
+ *
+ * Description:
+ * Byte i of the stream is expected to equal pattern[i % m] (m = pattern
+ * length). The only state that carries from one chunk to the next is the
+ * phase, (bytes consumed) % m, so:
+ *
+ * 1) accept(ByteBuffer) / count(ReadableByteChannel, pattern):
+ * - Streaming: each chunk starts at the phase the previous one ended on.
+ *
+ * 2) countParallel(ByteBuffer, pattern, pool):
+ * - Fork-join over one large buffer. A chunk at offset o starts at phase
+ * o % m, so chunks need nothing from each other; counts are added.
+ *
+ * Kernel: the same SWAR test as MarsSwar. The pattern is unrolled once into
+ * R = lcm(m, 8) bytes (plus m for the phase offset); 8 bytes of input are
+ * XORed with the 8 expected bytes at the current phase, and
+ * MarsSwar.mismatches counts the non-zero bytes. After R bytes the phase is
+ * back where it started, so the window index simply wraps to 0.
+ *
+ * Complexity:
+ * Time: O(n) with n / 8 word steps, Space: O(m) for the unrolled pattern.
+ *
+ * @see Mars
+ * @author Drew Mayberry
+ * @since 2025-10-22
+ */
+public class RepeatingPatternCounter {
+
+    static final int PARALLEL_CHUNK = 1 << 20;
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final byte[] pattern;
+    private final ByteBuffer unrolled; // pattern repeated to m + R bytes, native order
+    private final int period;          // R = lcm(m, 8)
+
+    private int phase;
+    private long corrupted;
+    private long consumed;
+
+    public static void main(String[] args) throws IOException {
+        byte[] sos = "SOS".getBytes(StandardCharsets.US_ASCII);
+
+        // Same answers as Mars for "SOS"
+        System.out.println(count(stream("SOSTOT"), sos)); // 2
+        System.out.println(count(stream("SOSSPSSQSSOR"), sos)); // 3
+
+        // Phase carries across chunk boundaries: feed "SOSSPSSQSSOR" 5 bytes at a time
+        RepeatingPatternCounter counter = new RepeatingPatternCounter(sos);
+        byte[] msg = "SOSSPSSQSSOR".getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < msg.length; i += 5) {
+            counter.accept(ByteBuffer.wrap(msg, i, Math.min(5, msg.length - i)));
+        }
+        System.out.println(counter.corrupted() + " after " + counter.consumed() + " bytes"); // 3 after 12 bytes
+
+        // Arbitrary 11-byte preamble, 3M bytes with random corruption
+        byte[] preamble = { 0x55, 0x55, 0x55, (byte) 0xD5, 0x01, 0x7E, 0x00, 0x42, 0x13, (byte) 0xFF, 0x2A };
+        byte[] data = new byte[3_000_001];
+        Random rnd = new Random(47);
+        long expected = 0;
+        for (int i = 0; i < data.length; i++) {
+            data[i] = preamble[i % preamble.length];
+            if (rnd.nextInt(50) == 0) {
+                data[i] ^= (byte) (1 + rnd.nextInt(255)); // always changes the byte
+                expected++;
+            }
+        }
+        System.out.println("Expected:  " + expected);
+        System.out.println("Streaming: " + count(new ByteArrayInputStream(data), preamble));
+        System.out.println("Parallel:  " + countParallel(ByteBuffer.wrap(data), preamble, ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Creates a counter at phase 0.
+     *
+     * @throws IllegalArgumentException if pattern is empty
+     */
+    public RepeatingPatternCounter(byte[] pattern) {
+        if (pattern.length == 0) {
+            throw new IllegalArgumentException("Pattern must not be empty");
+        }
+        this.pattern = pattern.clone();
+        int m = pattern.length;
+        this.period = m * Long.BYTES / gcd(m, Long.BYTES);
+        this.unrolled = ByteBuffer.allocate(m + period).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < m + period; i++) {
+            unrolled.put(i, pattern[i % m]);
+        }
+    }
+
+    /** Counts bytes of an InputStream that differ from {@code pattern} repeated. */
+    public static long count(InputStream in, byte[] pattern) throws IOException {
+        return count(Channels.newChannel(in), pattern);
+    }
+
+    /** Counts bytes of a channel that differ from {@code pattern} repeated. */
+    public static long count(ReadableByteChannel ch, byte[] pattern) throws IOException {
+        RepeatingPatternCounter counter = new RepeatingPatternCounter(pattern);
+        ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        while (ch.read(buf) >= 0) {
+            buf.flip();
+            counter.accept(buf);
+            buf.clear();
+        }
+        return counter.corrupted();
+    }
+
+    /**
+     * Counts bytes between position and limit of {@code data} that differ from
+     * {@code pattern} repeated (position is phase 0), splitting the work across
+     * {@code pool}. Position and limit of {@code data} are unchanged.
+     *
+     * @throws IllegalArgumentException if pattern is empty
+     */
+    public static long countParallel(ByteBuffer data, byte[] pattern, ForkJoinPool pool) {
+        RepeatingPatternCounter template = new RepeatingPatternCounter(pattern);
+        return pool.invoke(new ChunkTask(template, data, data.position(), data.position(), data.limit()));
+    }
+
+    /** Bytes that differed from the pattern so far. */
+    public long corrupted() {
+        return corrupted;
+    }
+
+    /** Bytes consumed so far. */
+    public long consumed() {
+        return consumed;
+    }
+
+    /** Index into the pattern that the next byte is compared with. */
+    public int phase() {
+        return phase;
+    }
+
+    /**
+     * Consumes every remaining byte of {@code buf}. Any chunking of the stream
+     * gives the same result, because only the phase carries over.
+     */
+    public void accept(ByteBuffer buf) {
+        int from = buf.position(), to = buf.limit();
+        corrupted += count(buf, from, to, phase);
+        consumed += to - from;
+        phase = (int) ((phase + (long) (to - from)) % pattern.length);
+        buf.position(to);
+    }
+
+    // Mismatches in buf[from, to) when buf[from] is compared with pattern[startPhase]
+    private long count(ByteBuffer buf, int from, int to, int startPhase) {
+        ByteBuffer view = buf.duplicate().order(ByteOrder.nativeOrder());
+        long changed = 0;
+        int i = from;
+        int j = 0; // offset into the R-byte window; pattern phase is (startPhase + j) % m
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            changed += MarsSwar.mismatches(view.getLong(i) ^ unrolled.getLong(startPhase + j));
+            j += Long.BYTES;
+            if (j == period) {
+                j = 0; // R is a multiple of m: back at startPhase
+            }
+        }
+        for (int p = startPhase + j; i < to; i++, p++) {
+            if (view.get(i) != unrolled.get(p)) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    // Splits [from, to) in halves; each leaf starts at phase (from - base) % m
+    static final class ChunkTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final RepeatingPatternCounter counter; // read-only: only unrolled/period are used
+        private final ByteBuffer data;
+        private final int base, from, to;
+
+        ChunkTask(RepeatingPatternCounter counter, ByteBuffer data, int base, int from, int to) {
+            this.counter = counter;
+            this.data = data;
+            this.base = base;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= PARALLEL_CHUNK) {
+                int startPhase = (from - base) % counter.pattern.length;
+                return counter.count(data, from, to, startPhase);
+            }
+            int mid = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(counter, data, base, from, mid);
+            left.fork();
+            long right = new ChunkTask(counter, data, base, mid, to).compute();
+            return left.join() + right;
+        }
+    }
+
+    private static InputStream stream(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.US_ASCII));
+    }
+}